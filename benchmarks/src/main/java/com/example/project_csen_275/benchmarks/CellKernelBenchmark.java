@@ -0,0 +1,79 @@
+package com.example.project_csen_275.benchmarks;
+
+import com.example.project_csen_275.Models.Garden;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The bulk plant operations on the scalar and the Vector API cell kernel.
+ * Forks run with {@code --add-modules jdk.incubator.vector}, so both kernels
+ * are measured in the same JVM configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx8g", "--add-modules=jdk.incubator.vector" })
+public class CellKernelBenchmark {
+    @Param({ "512", "2048" })
+    public int gridSize;
+
+    @Param({ "random", "monoculture", "sparse" })
+    public String plantMix;
+
+    @Param({ "scalar", "vector" })
+    public String kernel;
+
+    private Garden garden;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        GardenFixtures.silenceLogging();
+        garden = GardenFixtures.create(gridSize, plantMix, 0.1).getGarden();
+        boolean vector = "vector".equals(kernel);
+        if (garden.getCells().useVectorKernel(vector) != vector) {
+            throw new IllegalStateException("Vector API not available in this JVM");
+        }
+    }
+
+    @Benchmark
+    public int rain() {
+        return garden.rain();
+    }
+
+    @Benchmark
+    public Garden temperatureHeatWave() {
+        garden.temperature(85);
+        return garden;
+    }
+
+    @Benchmark
+    public Garden temperatureFrost() {
+        garden.temperature(55);
+        return garden;
+    }
+
+    @Benchmark
+    public int dryOutAll() {
+        return garden.dryOutAll();
+    }
+
+    @Benchmark
+    public Garden updateGardenState() {
+        garden.updateGardenState();
+        return garden;
+    }
+}
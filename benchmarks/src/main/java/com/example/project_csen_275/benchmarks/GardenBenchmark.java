@@ -0,0 +1,87 @@
+package com.example.project_csen_275.benchmarks;
+
+import com.example.project_csen_275.GardenSimulationAPI;
+import com.example.project_csen_275.Models.Garden;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded cost of the garden-wide operations.
+ * <p>
+ * The garden is rebuilt before every iteration, so operations that change
+ * state (plants drying out, dying and being replanted) start each iteration
+ * from the same layout. Scores are per call; {@link GardenBenchmarks} divides
+ * them by the cell count to report ns/cell.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class GardenBenchmark {
+    @Param({ "5", "64", "512", "4096" })
+    public int gridSize;
+
+    @Param({ "random", "monoculture", "sparse" })
+    public String plantMix;
+
+    @Param({ "0.0", "0.1", "0.5" })
+    public double pestDensity;
+
+    private GardenSimulationAPI api;
+    private Garden garden;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        GardenFixtures.silenceLogging();
+        api = GardenFixtures.create(gridSize, plantMix, pestDensity);
+        garden = api.getGarden();
+    }
+
+    @Benchmark
+    public Garden updateGardenState() {
+        garden.updateGardenState();
+        return garden;
+    }
+
+    @Benchmark
+    public int rain() {
+        return garden.rain();
+    }
+
+    @Benchmark
+    public Garden temperatureHeatWave() {
+        garden.temperature(85);
+        return garden;
+    }
+
+    @Benchmark
+    public Garden temperatureFrost() {
+        garden.temperature(55);
+        return garden;
+    }
+
+    @Benchmark
+    public int parasite() {
+        return api.parasite("aphid");
+    }
+
+    @Benchmark
+    public Map<String, Integer> plantTypeStats() {
+        return garden.getPlantTypeStats();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.project_csen_275.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+/**
+ * Entry point of the benchmark jar.
+ * <p>
+ * Accepts the usual JMH command line (e.g. {@code -p gridSize=512} or a
+ * benchmark name regex), always adds the GC profiler for allocation rates,
+ * and finishes with a per-cell summary of every result.
+ */
+public class GardenBenchmarks {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        printPerCell(results);
+    }
+
+    private static void printPerCell(Collection<RunResult> results) {
+        System.out.println();
+        System.out.println("Per-cell cost");
+        System.out.printf("%-40s %8s %-12s %6s %8s %8s %12s %12s%n",
+                "Benchmark", "grid", "mix", "pests", "threads", "kernel", "ns/cell", "B/cell");
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            int size = Integer.parseInt(params.getParam("gridSize"));
+            double cells = (double) size * size;
+            double nsPerOp = result.getPrimaryResult().getScore();
+            Result<?> alloc = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            String bytesPerCell = alloc != null ? String.format("%.2f", alloc.getScore() / cells) : "-";
+
+            String benchmark = params.getBenchmark();
+            System.out.printf("%-40s %8s %-12s %6s %8s %8s %12.3f %12s%n",
+                    benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1),
+                    size + "x" + size,
+                    paramOrDash(params, "plantMix"),
+                    paramOrDash(params, "pestDensity"),
+                    paramOrDash(params, "tickThreads"),
+                    paramOrDash(params, "kernel"),
+                    nsPerOp / cells,
+                    bytesPerCell);
+        }
+    }
+
+    private static String paramOrDash(BenchmarkParams params, String key) {
+        String value = params.getParam(key);
+        return value != null ? value : "-";
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.project_csen_275.benchmarks;
+
+import com.example.project_csen_275.GardenLogger;
+import com.example.project_csen_275.GardenSimulationAPI;
+import com.example.project_csen_275.Models.Garden;
+import com.example.project_csen_275.Models.Plants.NoPlant;
+import com.example.project_csen_275.Models.Plants.Plant;
+import com.example.project_csen_275.Models.Plants.SpeciesTable;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Builds reproducible gardens for the benchmarks.
+ */
+final class GardenFixtures {
+    static final long SEED = 42;
+
+    private GardenFixtures() {
+    }
+
+    /**
+     * Turn off console and file logging so the benchmarks measure the
+     * simulation rather than I/O. Message formatting still runs.
+     */
+    static void silenceLogging() {
+        GardenLogger.setConsoleLoggingEnabled(false);
+        GardenLogger.setFileLoggingEnabled(false);
+    }
+
+    /**
+     * Create a square garden.
+     *
+     * @param size        rows and columns
+     * @param plantMix    "random" (the seeded default layout), "monoculture"
+     *                    (corn everywhere) or "sparse" (a quarter of the cells planted)
+     * @param pestDensity fraction of plants that start with a pest
+     */
+    static GardenSimulationAPI create(int size, String plantMix, double pestDensity) {
+        GardenSimulationAPI api = new GardenSimulationAPI(size, size, SEED);
+        Garden garden = api.getGarden();
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                switch (plantMix) {
+                    case "random" -> {
+                        // Keep the seeded layout
+                    }
+                    case "monoculture" -> garden.addPlant(r, c, SpeciesTable.create(SpeciesTable.CORN));
+                    case "sparse" -> {
+                        if (random.nextInt(4) == 0) {
+                            garden.addPlant(r, c, SpeciesTable.create(1 + random.nextInt(SpeciesTable.SUNFLOWER)));
+                        } else {
+                            garden.addPlant(r, c, new NoPlant());
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Unknown plant mix: " + plantMix);
+                }
+
+                Plant plant = garden.getPlant(r, c);
+                if (!(plant instanceof NoPlant) && random.nextDouble() < pestDensity) {
+                    List<String> pests = GardenSimulationAPI.getDefaultParasitesFor(plant.getName());
+                    if (!pests.isEmpty()) {
+                        plant.setPestType(pests.get(random.nextInt(pests.size())));
+                    }
+                }
+            }
+        }
+        return api;
+    }
+}
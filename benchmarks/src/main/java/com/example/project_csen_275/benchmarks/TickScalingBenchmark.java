@@ -0,0 +1,65 @@
+package com.example.project_csen_275.benchmarks;
+
+import com.example.project_csen_275.Models.Garden;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of {@link Garden#updateGardenState()} across tick pool sizes.
+ * A thread count of 0 runs the bands sequentially on the calling thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class TickScalingBenchmark {
+    @Param({ "512", "2048", "4096" })
+    public int gridSize;
+
+    @Param({ "0", "1", "2", "4", "8" })
+    public int tickThreads;
+
+    private ForkJoinPool pool;
+    private Garden garden;
+
+    @Setup(Level.Trial)
+    public void startPool() {
+        GardenFixtures.silenceLogging();
+        pool = tickThreads > 0 ? new ForkJoinPool(tickThreads) : null;
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        garden = GardenFixtures.create(gridSize, "random", 0.1).getGarden();
+        garden.setTickPool(pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopPool() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Garden updateGardenState() {
+        garden.updateGardenState();
+        return garden;
+    }
+}
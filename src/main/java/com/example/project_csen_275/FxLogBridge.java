@@ -0,0 +1,88 @@
+package com.example.project_csen_275;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Feeds {@link GardenLogger} output into an observable list for the GUI log
+ * panel. Log lines may arrive on any thread; they are collected in a lock-free
+ * queue and added to the list in one change per frame of the
+ * {@link UiUpdatePump}, on the JavaFX application thread.
+ */
+public class FxLogBridge {
+    private static final int MAX_LOGS = 100; // Maximum number of logs to keep
+
+    // Observable list to store logs for display in the GUI
+    private final ObservableList<String> logs = FXCollections.observableArrayList();
+    // Lines received since the last frame, oldest first
+    private final ConcurrentLinkedQueue<String> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Consumer<String> listener = this::onLog;
+
+    public FxLogBridge(UiUpdatePump pump) {
+        pump.addFrameTask(this::flush);
+        GardenLogger.addListener(listener);
+    }
+
+    private void onLog(String formattedMessage) {
+        pending.offer(formattedMessage);
+        // Lines beyond what the panel keeps would be pushed out by the newer ones
+        if (pendingCount.incrementAndGet() > MAX_LOGS && pending.poll() != null) {
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Add the lines received since the last call to the list. Called once per
+     * frame on the JavaFX application thread.
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<String> batch = new ArrayList<>();
+        String line;
+        while ((line = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            // Add to the beginning of the list so the newest logs are at top
+            batch.addFirst(line);
+        }
+        logs.addAll(0, batch);
+
+        // Keep the list at a reasonable size
+        if (logs.size() > MAX_LOGS) {
+            logs.remove(MAX_LOGS, logs.size());
+        }
+    }
+
+    /**
+     * Get the observable list of logs
+     *
+     * @return Observable list of log entries, newest first
+     */
+    public ObservableList<String> getLogs() {
+        return logs;
+    }
+
+    /**
+     * Clear all logs
+     */
+    public void clear() {
+        pending.clear();
+        pendingCount.set(0);
+        logs.clear();
+    }
+
+    /**
+     * Stop receiving log lines
+     */
+    public void close() {
+        GardenLogger.removeListener(listener);
+    }
+}
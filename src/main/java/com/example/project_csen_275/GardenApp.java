@@ -1,5 +1,6 @@
 package com.example.project_csen_275;
 
+import com.example.project_csen_275.render.TileImageCache;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -11,6 +12,9 @@ public class GardenApp extends Application {
 
     @Override
     public void start(Stage stage) throws Exception {
+        // Decode the plant and animation tiles once, before the grid needs them
+        TileImageCache.preload();
+
         FXMLLoader loader = new FXMLLoader(getClass().getResource("garden-view.fxml"));
         Parent root = loader.load();
         Scene scene = new Scene(root, 1024, 900); // Further increased window size for better visibility
@@ -1,5 +1,7 @@
 package com.example.project_csen_275;
 
+import com.example.project_csen_275.journal.EventJournal;
+import com.example.project_csen_275.journal.EventJournalReader;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -25,7 +27,6 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
@@ -517,6 +518,9 @@ public class GardenDocumentation {
                                 "• Each day gets a new log file\n" +
                                 "• Files are plain text and can be opened with any text editor\n" +
                                 "• Log entries are appended to the file in chronological order\n\n" +
+                                "When the simulation is started with -Dgarden.journal=true, garden events are also recorded to a " +
+                                "compact binary journal (garden_journal_YYYY-MM-DD_HH-mm-ss.gj). The Log Viewer shows journals " +
+                                "as log lines stamped with the simulation cycle.\n\n" +
                                 "The Log Viewer tab in this documentation window allows you to browse and search through your log files."),
 
                 // Using Logs Effectively
@@ -695,7 +699,7 @@ public class GardenDocumentation {
             if (selectedFile != null) {
                 String logPath = "logs/" + selectedFile;
                 try {
-                    List<String> logLines = Files.readAllLines(Paths.get(logPath));
+                    String[] logLines = readLogFile(logPath).split("\n");
                     StringBuilder filteredContent = new StringBuilder();
 
                     for (String line : logLines) {
@@ -763,7 +767,11 @@ public class GardenDocumentation {
                                 "• GardenControllerFX.java\n" +
                                 "  - Primary controller handling UI interactions\n" +
                                 "  - Manages grid display, plant placement, and user controls\n" +
-                                "  - Implements simulation update logic\n\n" +
+                                "  - Renders updates published by the simulation engine\n\n" +
+
+                                "• engine/SimulationEngine.java\n" +
+                                "  - Headless automation cycle, weather events and metrics\n" +
+                                "  - Runs on its own thread, independent of JavaFX\n\n" +
 
                                 "• Garden.java\n" +
                                 "  - Core model representing the garden state\n" +
@@ -945,7 +953,8 @@ public class GardenDocumentation {
         File logsDir = new File("logs");
 
         if (logsDir.exists() && logsDir.isDirectory()) {
-            File[] files = logsDir.listFiles((dir, name) -> name.startsWith("garden_log_") && name.endsWith(".log"));
+            File[] files = logsDir.listFiles((dir, name) -> (name.startsWith("garden_log_") && name.endsWith(".log"))
+                    || (name.startsWith("garden_journal_") && name.endsWith(EventJournal.FILE_EXTENSION)));
             if (files != null) {
                 for (File file : files) {
                     logFiles.add(file.getName());
@@ -957,13 +966,18 @@ public class GardenDocumentation {
     }
 
     /**
-     * Read the contents of a log file
+     * Read the contents of a log file, or the text rendering of an event
+     * journal
      * 
      * @param path Path to the log file
      * @return String containing the file contents
      * @throws IOException if file can't be read
      */
     private String readLogFile(String path) throws IOException {
+        // Event journals are binary; render them as log lines on demand
+        if (path.endsWith(EventJournal.FILE_EXTENSION)) {
+            return EventJournalReader.toText(Paths.get(path));
+        }
         StringBuilder content = new StringBuilder();
         try (BufferedReader reader = new BufferedReader(new FileReader(path))) {
             String line;
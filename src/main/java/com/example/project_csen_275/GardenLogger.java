@@ -1,151 +1,646 @@
 package com.example.project_csen_275;
 
-import javafx.application.Platform;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-
 import java.io.File;
-import java.io.FileWriter;
-import java.io.PrintWriter;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
- * Logger class for garden operations
+ * Logger class for garden operations.
+ * <p>
+ * Logging is asynchronous: the calling thread only puts the message on a
+ * bounded lock-free queue. A background writer formats queued messages and
+ * writes them in batches to the console, the daily log file and any
+ * registered listeners (such as {@link FxLogBridge} for the log panel). What
+ * happens when the queue is full is set by the {@link OverflowPolicy}. Queued
+ * messages are flushed on shutdown.
+ * <p>
+ * Messages below the configured {@link Level} are discarded before anything is
+ * queued. The {@link Supplier} and template overloads defer building the
+ * message: a supplier is only called when its level is enabled, and a template
+ * is filled in on the writer thread. Per-cell messages can be switched to one
+ * summary per cycle with {@link #setPerCellLogging(boolean)}.
+ * <p>
+ * Configurable with the system properties {@value #QUEUE_SIZE_PROPERTY}
+ * (default {@value #DEFAULT_QUEUE_SIZE}), {@value #OVERFLOW_PROPERTY}
+ * (BLOCK, DROP or SAMPLE; default BLOCK), {@value #LEVEL_PROPERTY} (default
+ * INFO) and {@value #PER_CELL_PROPERTY} (default true).
  */
 public class GardenLogger {
-    // Observable list to store logs for display in the GUI
-    private static final ObservableList<String> logs = FXCollections.observableArrayList();
-    private static final int MAX_LOGS = 100; // Maximum number of logs to keep
-    private static final SimpleDateFormat dateFormat = new SimpleDateFormat("HH:mm:ss");
-    private static final SimpleDateFormat fileDateFormat = new SimpleDateFormat("yyyy-MM-dd");
+    public static final String QUEUE_SIZE_PROPERTY = "garden.log.queueSize";
+    public static final String OVERFLOW_PROPERTY = "garden.log.overflow";
+    public static final String LEVEL_PROPERTY = "garden.log.level";
+    public static final String PER_CELL_PROPERTY = "garden.log.perCell";
+    public static final int DEFAULT_QUEUE_SIZE = 65_536;
+
+    /**
+     * Log levels, lowest first.
+     */
+    public enum Level {
+        INFO("ℹ️ "),
+        EVENT("🔔 "),
+        WARNING("⚠️ "),
+        ERROR("❌ ");
+
+        private final String emoji;
+
+        Level(String emoji) {
+            this.emoji = emoji;
+        }
+
+        /**
+         * Get the emoji shown before the level in log lines
+         */
+        public String getEmoji() {
+            return emoji;
+        }
+    }
+
+    /**
+     * What to do with a message when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait for the writer to make room. Nothing is lost. */
+        BLOCK,
+        /** Drop the message and count it. */
+        DROP,
+        /**
+         * Once the queue is three quarters full, keep only one in
+         * {@value GardenLogger#SAMPLE_RATE} INFO and EVENT messages; warnings
+         * and errors are kept while there is room.
+         */
+        SAMPLE
+    }
+
+    static final int SAMPLE_RATE = 100;
+    private static final int MAX_BATCH = 4_096;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final String LOG_DIRECTORY = "logs";
     private static final String LOG_FILE_PREFIX = "garden_log_";
-    private static boolean fileLoggingEnabled = true;
+
+    private static final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+    private static volatile boolean fileLoggingEnabled = true;
+    private static volatile boolean consoleLoggingEnabled = true;
+    private static volatile OverflowPolicy overflowPolicy = overflowFromProperties();
+    private static volatile Level minimumLevel = levelFromProperties();
+    private static volatile boolean perCellLogging =
+            Boolean.parseBoolean(System.getProperty(PER_CELL_PROPERTY, "true"));
+
+    private static final LogQueue queue = new LogQueue(Integer.getInteger(QUEUE_SIZE_PROPERTY, DEFAULT_QUEUE_SIZE));
+    private static final LongAdder dropped = new LongAdder();
+    private static volatile Thread writerThread;
+    private static volatile boolean writerIdle = false;
+    private static volatile boolean closing = false;
+    private static volatile long writtenCount = 0;
 
     /**
      * Log an information message
-     * 
+     *
      * @param message The message to log
      */
     public static void info(String message) {
-        addLog("INFO", message);
+        addLog(Level.INFO, message, null);
+    }
+
+    /**
+     * Log an information message built only if INFO is enabled
+     *
+     * @param message Supplies the message to log
+     */
+    public static void info(Supplier<String> message) {
+        if (isEnabled(Level.INFO)) {
+            addLog(Level.INFO, message.get(), null);
+        }
+    }
+
+    /**
+     * Log an information message from a template. Each {@code {}} in the
+     * template is replaced by the next argument on the writer thread.
+     *
+     * @param template The message template
+     * @param args     Values for the placeholders
+     */
+    public static void info(String template, Object... args) {
+        addLog(Level.INFO, template, args);
     }
 
     /**
      * Log a warning message
-     * 
+     *
      * @param message The warning message to log
      */
     public static void warning(String message) {
-        addLog("WARNING", message);
+        addLog(Level.WARNING, message, null);
+    }
+
+    /**
+     * Log a warning message built only if WARNING is enabled
+     *
+     * @param message Supplies the warning message to log
+     */
+    public static void warning(Supplier<String> message) {
+        if (isEnabled(Level.WARNING)) {
+            addLog(Level.WARNING, message.get(), null);
+        }
+    }
+
+    /**
+     * Log a warning message from a template
+     *
+     * @param template The message template
+     * @param args     Values for the placeholders
+     */
+    public static void warning(String template, Object... args) {
+        addLog(Level.WARNING, template, args);
     }
 
     /**
      * Log an error message
-     * 
+     *
      * @param message The error message to log
      */
     public static void error(String message) {
-        addLog("ERROR", message);
+        addLog(Level.ERROR, message, null);
+    }
+
+    /**
+     * Log an error message built only if ERROR is enabled
+     *
+     * @param message Supplies the error message to log
+     */
+    public static void error(Supplier<String> message) {
+        if (isEnabled(Level.ERROR)) {
+            addLog(Level.ERROR, message.get(), null);
+        }
+    }
+
+    /**
+     * Log an error message from a template
+     *
+     * @param template The message template
+     * @param args     Values for the placeholders
+     */
+    public static void error(String template, Object... args) {
+        addLog(Level.ERROR, template, args);
     }
 
     /**
      * Log a garden event
-     * 
+     *
      * @param message The event message to log
      */
     public static void event(String message) {
-        addLog("EVENT", message);
+        addLog(Level.EVENT, message, null);
     }
 
     /**
-     * Add a log entry with timestamp and level
-     * 
-     * @param level   The log level
-     * @param message The message to log
+     * Log a garden event built only if EVENT is enabled
+     *
+     * @param message Supplies the event message to log
      */
-    private static void addLog(String level, String message) {
-        String timestamp = dateFormat.format(new Date());
-
-        // Add appropriate emoji based on log level
-        String emoji = switch (level) {
-            case "INFO" -> "ℹ️ ";
-            case "WARNING" -> "⚠️ ";
-            case "ERROR" -> "❌ ";
-            case "EVENT" -> "🔔 ";
-            default -> "";
-        };
-
-        // Create the formatted message with emoji
-        final String formattedMessage = timestamp + " " + emoji + "[" + level + "] " + message;
-
-        // Update the UI on the JavaFX application thread
-        Platform.runLater(() -> {
-            // Add to the beginning of the list so the newest logs are at top
-            logs.addFirst(formattedMessage);
-
-            // Keep the list at a reasonable size
-            if (logs.size() > MAX_LOGS) {
-                logs.removeLast();
-            }
-        });
+    public static void event(Supplier<String> message) {
+        if (isEnabled(Level.EVENT)) {
+            addLog(Level.EVENT, message.get(), null);
+        }
+    }
 
-        // Also print to console for debugging (safe to do on any thread)
-        System.out.println(formattedMessage);
+    /**
+     * Log a garden event from a template
+     *
+     * @param template The message template
+     * @param args     Values for the placeholders
+     */
+    public static void event(String template, Object... args) {
+        addLog(Level.EVENT, template, args);
+    }
 
-        // Write to log file
-        if (fileLoggingEnabled) {
-            writeToLogFile(formattedMessage);
-        }
+    /**
+     * Check whether messages of a level would be written anywhere. Use this to
+     * guard log calls whose arguments are expensive to compute.
+     *
+     * @param level The log level
+     * @return true if the level passes the filter and a sink is enabled
+     */
+    public static boolean isEnabled(Level level) {
+        return level.ordinal() >= minimumLevel.ordinal()
+                && (fileLoggingEnabled || consoleLoggingEnabled || !listeners.isEmpty());
+    }
+
+    /**
+     * Check whether per-cell messages of a level should be logged. When
+     * per-cell logging is off, callers log one summary per cycle instead.
+     *
+     * @param level The log level
+     * @return true if per-cell logging is on and the level is enabled
+     */
+    public static boolean isCellLogEnabled(Level level) {
+        return perCellLogging && isEnabled(level);
+    }
+
+    /**
+     * Set the lowest level that is logged
+     *
+     * @param level The minimum level
+     */
+    public static void setLevel(Level level) {
+        minimumLevel = level;
+    }
+
+    /**
+     * Get the lowest level that is logged
+     *
+     * @return The minimum level
+     */
+    public static Level getLevel() {
+        return minimumLevel;
+    }
+
+    /**
+     * Choose between one log line per cell (planting, deaths, replants) and
+     * one aggregated summary per cycle
+     *
+     * @param enabled true for per-cell lines
+     */
+    public static void setPerCellLogging(boolean enabled) {
+        perCellLogging = enabled;
+    }
+
+    /**
+     * Check whether per-cell lines are logged
+     *
+     * @return true for per-cell lines, false for per-cycle summaries
+     */
+    public static boolean isPerCellLogging() {
+        return perCellLogging;
+    }
+
+    /**
+     * Register a listener that receives every formatted log line. Listeners are
+     * called on the log writer thread.
+     *
+     * @param listener The listener to add
+     */
+    public static void addListener(Consumer<String> listener) {
+        listeners.add(listener);
     }
 
     /**
-     * Get the observable list of logs
-     * 
-     * @return Observable list of log entries
+     * Remove a previously registered listener
+     *
+     * @param listener The listener to remove
      */
-    public static ObservableList<String> getLogs() {
-        return logs;
+    public static void removeListener(Consumer<String> listener) {
+        listeners.remove(listener);
     }
 
     /**
-     * Clear all logs
+     * Enable or disable writing logs to the daily log file
+     *
+     * @param enabled true to write log files
      */
-    public static void clearLogs() {
-        Platform.runLater(logs::clear);
+    public static void setFileLoggingEnabled(boolean enabled) {
+        fileLoggingEnabled = enabled;
     }
 
     /**
-     * Write a log message to a file
-     * 
-     * @param message The message to write
+     * Enable or disable printing logs to the console
+     *
+     * @param enabled true to print logs
      */
-    private static void writeToLogFile(String message) {
-        // Create logs directory if it doesn't exist
-        File logDir = new File(LOG_DIRECTORY);
-        if (!logDir.exists()) {
-            if (!logDir.mkdir()) {
-                System.err.println("Error: Could not create logs directory at " + logDir.getAbsolutePath());
+    public static void setConsoleLoggingEnabled(boolean enabled) {
+        consoleLoggingEnabled = enabled;
+    }
+
+    /**
+     * Set what happens to messages when the queue is full
+     *
+     * @param policy The overflow policy
+     */
+    public static void setOverflowPolicy(OverflowPolicy policy) {
+        overflowPolicy = policy;
+    }
+
+    /**
+     * Get the number of messages dropped because the queue was full
+     *
+     * @return Total dropped messages
+     */
+    public static long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Wait until every message logged so far has been written
+     */
+    public static void flush() {
+        Thread writer = writerThread;
+        if (writer == null || writer == Thread.currentThread()) {
+            return;
+        }
+        long target = queue.enqueuedCount();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (writtenCount < target && writer.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(100_000);
+        }
+    }
+
+    /**
+     * Flush queued messages and stop the writer thread. Called automatically
+     * when the JVM shuts down; messages logged afterwards go straight to the
+     * console.
+     */
+    public static void shutdown() {
+        Thread writer = writerThread;
+        closing = true;
+        if (writer != null && writer != Thread.currentThread()) {
+            LockSupport.unpark(writer);
+            try {
+                writer.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Queue a log entry with timestamp and level
+     *
+     * @param level   The log level
+     * @param message The message or template to log
+     * @param args    Template arguments, or null for a plain message
+     */
+    private static void addLog(Level level, String message, Object[] args) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (closing) {
+            // Writer is gone; keep the message visible
+            System.out.println(format(now, level, message, args));
+            return;
+        }
+        if (writerThread == null) {
+            startWriter();
+        }
+
+        OverflowPolicy policy = overflowPolicy;
+        if (policy == OverflowPolicy.SAMPLE && isLowPriority(level)
+                && queue.size() > queue.capacity() * 3 / 4
+                && ThreadLocalRandom.current().nextInt(SAMPLE_RATE) != 0) {
+            dropped.increment();
+            return;
+        }
+        while (!queue.offer(now, level, message, args)) {
+            if (policy != OverflowPolicy.BLOCK || Thread.currentThread() == writerThread || closing) {
+                dropped.increment();
                 return;
             }
+            // Queue full: wake the writer and wait for room
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(50_000);
+        }
+        if (writerIdle) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private static boolean isLowPriority(Level level) {
+        return level == Level.INFO || level == Level.EVENT;
+    }
+
+    private static synchronized void startWriter() {
+        if (writerThread != null) {
+            return;
+        }
+        Thread writer = new Thread(new Writer(), "GardenLogWriter");
+        writer.setDaemon(true); // Don't prevent JVM shutdown
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(GardenLogger::shutdown, "GardenLogShutdown"));
+        writerThread = writer;
+    }
+
+    private static Level levelFromProperties() {
+        String configured = System.getProperty(LEVEL_PROPERTY);
+        if (configured == null || configured.isBlank()) {
+            return Level.INFO;
+        }
+        try {
+            return Level.valueOf(configured.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + LEVEL_PROPERTY + ": " + configured, e);
         }
+    }
+
+    private static OverflowPolicy overflowFromProperties() {
+        String configured = System.getProperty(OVERFLOW_PROPERTY);
+        if (configured == null || configured.isBlank()) {
+            return OverflowPolicy.BLOCK;
+        }
+        try {
+            return OverflowPolicy.valueOf(configured.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + OVERFLOW_PROPERTY + ": " + configured, e);
+        }
+    }
 
-        // Create log file with date in filename
-        String today = fileDateFormat.format(new Date());
-        String logFileName = LOG_DIRECTORY + File.separator + LOG_FILE_PREFIX + today + ".log";
+    /**
+     * Format a log line with timestamp, emoji and level
+     */
+    private static String format(long timeMillis, Level level, String message, Object[] args) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(timeMillis), ZoneId.systemDefault());
+        return format(time, level, message, args);
+    }
 
-        try (FileWriter fw = new FileWriter(logFileName, true);
-                PrintWriter pw = new PrintWriter(fw)) {
-            pw.println(message);
-        } catch (java.io.FileNotFoundException e) {
-            System.err.println("Error: Log file not found or cannot be created: " + e.getMessage());
-            System.err.println("Log directory permissions may be incorrect for: " + logFileName);
-        } catch (java.io.IOException e) {
-            System.err.println("Error writing to log file: " + e.getMessage());
-        } catch (SecurityException e) {
-            System.err.println("Security violation: No permission to write logs: " + e.getMessage());
+    private static String format(LocalDateTime time, Level level, String message, Object[] args) {
+        StringBuilder line = new StringBuilder(32 + message.length());
+        line.append(TIME_FORMAT.format(time)).append(' ').append(level.emoji)
+                .append('[').append(level.name()).append("] ");
+        if (args == null) {
+            return line.append(message).toString();
         }
+        // Replace each {} with the next argument
+        int start = 0;
+        int argIndex = 0;
+        int placeholder;
+        while (argIndex < args.length && (placeholder = message.indexOf("{}", start)) >= 0) {
+            line.append(message, start, placeholder).append(args[argIndex++]);
+            start = placeholder + 2;
+        }
+        return line.append(message, start, message.length()).toString();
     }
 
+    /**
+     * Background writer: drains the queue in batches and writes each batch
+     * with one console print and one channel write.
+     */
+    private static final class Writer implements Runnable {
+        private final StringBuilder batch = new StringBuilder(1 << 16);
+        private FileChannel channel;
+        private LocalDate channelDate;
+        private boolean fileErrorReported = false;
+        private long reportedDrops = 0;
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    if (drainBatch() > 0) {
+                        continue;
+                    }
+                    reportDrops();
+                    if (closing && queue.peek() == null) {
+                        break;
+                    }
+                    writerIdle = true;
+                    if (queue.peek() == null && !closing) {
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    }
+                    writerIdle = false;
+                }
+            } finally {
+                closeChannel();
+            }
+        }
+
+        /**
+         * Format and write up to one batch of queued entries
+         *
+         * @return number of entries written
+         */
+        private int drainBatch() {
+            int count = 0;
+            LocalDate batchDate = null;
+            LogQueue.Entry entry;
+            while (count < MAX_BATCH && (entry = queue.peek()) != null) {
+                LocalDateTime time = LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(entry.timeMillis), ZoneId.systemDefault());
+                LocalDate date = time.toLocalDate();
+                if (batchDate != null && !date.equals(batchDate)) {
+                    // Day changed; finish the batch for the old file first
+                    break;
+                }
+                batchDate = date;
+                String line = format(time, entry.level, entry.message, entry.args);
+                queue.advance();
+                count++;
+
+                batch.append(line).append(System.lineSeparator());
+                for (Consumer<String> listener : listeners) {
+                    listener.accept(line);
+                }
+            }
+            if (count > 0) {
+                write(batchDate);
+                writtenCount = queue.consumedCount();
+            }
+            return count;
+        }
+
+        private void write(LocalDate date) {
+            // Also print to console for debugging
+            if (consoleLoggingEnabled) {
+                System.out.print(batch);
+            }
+            // Write to log file
+            if (fileLoggingEnabled) {
+                writeToLogFile(date, batch);
+            }
+            batch.setLength(0);
+        }
+
+        private void reportDrops() {
+            long total = dropped.sum();
+            if (total > reportedDrops) {
+                long newDrops = total - reportedDrops;
+                reportedDrops = total;
+                queue.offer(System.currentTimeMillis(), Level.WARNING,
+                        "{} log messages dropped because the log queue was full", new Object[] { newDrops });
+            }
+        }
+
+        /**
+         * Write a batch of lines to the file for the given day
+         */
+        private void writeToLogFile(LocalDate date, CharSequence lines) {
+            try {
+                if (channel == null || !date.equals(channelDate)) {
+                    closeChannel();
+                    channel = openLogFile(date);
+                    channelDate = date;
+                    if (channel == null) {
+                        return;
+                    }
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                fileErrorReported = false;
+            } catch (IOException e) {
+                reportFileError("Error writing to log file: " + e.getMessage());
+                closeChannel();
+            } catch (SecurityException e) {
+                reportFileError("Security violation: No permission to write logs: " + e.getMessage());
+                closeChannel();
+            }
+        }
+
+        private FileChannel openLogFile(LocalDate date) throws IOException {
+            // Create logs directory if it doesn't exist
+            File logDir = new File(LOG_DIRECTORY);
+            if (!logDir.exists()) {
+                if (!logDir.mkdir()) {
+                    reportFileError("Error: Could not create logs directory at " + logDir.getAbsolutePath());
+                    return null;
+                }
+            }
+
+            // Create log file with date in filename
+            String logFileName = LOG_DIRECTORY + File.separator + LOG_FILE_PREFIX + FILE_DATE_FORMAT.format(date)
+                    + ".log";
+            return FileChannel.open(Paths.get(logFileName),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+
+        private void reportFileError(String message) {
+            // Report once until writing succeeds again
+            if (!fileErrorReported) {
+                System.err.println(message);
+                fileErrorReported = true;
+            }
+        }
+
+        private void closeChannel() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    System.err.println("Error closing log file: " + e.getMessage());
+                }
+                channel = null;
+                channelDate = null;
+            }
+        }
+    }
 }
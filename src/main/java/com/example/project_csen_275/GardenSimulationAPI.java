@@ -1,7 +1,13 @@
 package com.example.project_csen_275;
 
 import com.example.project_csen_275.Models.Garden;
+import com.example.project_csen_275.Models.Plants.NoPlant;
+import com.example.project_csen_275.Models.Plants.PestTable;
+import com.example.project_csen_275.Models.Plants.PopulationSnapshot;
 import com.example.project_csen_275.Models.Plants.Plant;
+import com.example.project_csen_275.Models.Plants.Species;
+import com.example.project_csen_275.Models.Plants.SpeciesTable;
+import com.example.project_csen_275.journal.JournalEvent;
 import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -9,7 +15,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Arrays;
 import java.util.Collections;
 
 /**
@@ -17,24 +22,6 @@ import java.util.Collections;
  */
 public class GardenSimulationAPI {
     private final Garden garden;
-    private final PlantSelector plantSelector;
-    // Configured plant metadata
-    private static final Map<String,Integer> DEFAULT_WATER_REQUIREMENT = Map.of(
-        "Carrot", 10,
-        "Cherry", 12,
-        "Corn", 15,
-        "Pumpkin", 20,
-        "Sunflower", 8
-    );
-    private static final Map<String,List<String>> DEFAULT_PARASITES = new HashMap<>();
-    static {
-        DEFAULT_PARASITES.put("Carrot", Arrays.asList("aphid","caterpillar"));
-        DEFAULT_PARASITES.put("Cherry", Arrays.asList("bird","weevil"));
-        DEFAULT_PARASITES.put("Corn", List.of("locust"));
-        DEFAULT_PARASITES.put("Pumpkin", List.of("squashBug"));
-        DEFAULT_PARASITES.put("Sunflower", List.of("aphid"));
-        DEFAULT_PARASITES.put("Empty", Collections.emptyList());
-    }
     // Lists to record initialization details
     private final List<String> plantNames = new ArrayList<>();
     private final List<Integer> waterRequirements = new ArrayList<>();
@@ -47,7 +34,16 @@ public class GardenSimulationAPI {
      */
     public GardenSimulationAPI(int rows, int cols) {
         this.garden = new Garden(rows, cols);
-        this.plantSelector = new PlantSelector();
+    }
+
+    /**
+     * Constructs the API with a new garden whose simulation is reproducible from a seed.
+     * @param rows number of rows in the garden grid
+     * @param cols number of columns in the garden grid
+     * @param seed seed for the simulation-wide random number generator
+     */
+    public GardenSimulationAPI(int rows, int cols, long seed) {
+        this.garden = new Garden(rows, cols, seed);
     }
 
     /**
@@ -74,16 +70,18 @@ public class GardenSimulationAPI {
                 int r = Integer.parseInt(parts[0]);
                 int c = Integer.parseInt(parts[1]);
                 String name = parts[2];
-                // record metadata
+                // record metadata, from the species registry
+                Species species = SpeciesTable.byName(name);
                 plantNames.add(name);
-                waterRequirements.add(DEFAULT_WATER_REQUIREMENT.getOrDefault(name, 0));
-                parasiteVulnerabilities.add(DEFAULT_PARASITES.getOrDefault(name, Collections.emptyList()));
-                Plant plant = plantSelector.createPlantByName(name);
+                waterRequirements.add(species != null ? species.getWaterRequirement() : 0);
+                parasiteVulnerabilities.add(species != null ? species.getParasites() : Collections.emptyList());
+                // Unknown names leave the cell as empty soil
+                Plant plant = species != null ? species.create() : new NoPlant();
                 garden.addPlant(r, c, plant);
             }
             GardenLogger.info("Garden initialized from config");
         } catch (Exception e) {
-            GardenLogger.error("Failed to initialize garden: " + e.getMessage());
+            GardenLogger.error("Failed to initialize garden: {}", e.getMessage());
         }
     }
 
@@ -102,7 +100,8 @@ public class GardenSimulationAPI {
      * Returns the default parasite vulnerabilities for a given plant name.
      */
     public static List<String> getDefaultParasitesFor(String plantName) {
-        return DEFAULT_PARASITES.getOrDefault(plantName, Collections.emptyList());
+        Species species = SpeciesTable.byName(plantName);
+        return species != null ? species.getParasites() : Collections.emptyList();
     }
 
     /**
@@ -125,7 +124,7 @@ public class GardenSimulationAPI {
     /**
      * Helper to format pest names (camelCase to Title Case).
      */
-    private static String formatPestName(String raw) {
+    public static String formatPestName(String raw) {
         if (raw == null || raw.isEmpty()) {
             return raw;
         }
@@ -139,26 +138,24 @@ public class GardenSimulationAPI {
         }
         return res.toString();
     }
+
+    /**
+     * Infest every living plant that is vulnerable to a pest.
+     *
+     * @param pestName Name of a registered pest, e.g. "aphid"
+     * @return number of plants infested; 0 for a pest that is not registered
+     */
     public int parasite(String pestName) {
-        int count = 0;
-        int rows = garden.getRows();
-        int cols = garden.getCols();
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                Plant plant = garden.getPlant(r, c);
-                if (!(plant instanceof com.example.project_csen_275.Models.Plants.NoPlant)
-                        && plant.getHealth() > 0) {
-                    List<String> vuln = DEFAULT_PARASITES.getOrDefault(plant.getName(), Collections.emptyList());
-                    if (vuln.contains(pestName)) {
-                        plant.setPestType(pestName);
-                        count++;
-                    }
-                }
-            }
-        }
+        // Looked up without registering, so arbitrary names can't fill the pest table
+        int pestId = PestTable.find(pestName);
+        // Only the cells of species vulnerable to this pest are visited; an unknown pest infests nothing
+        int count = pestId != PestTable.NONE ? garden.infest(pestId) : 0;
         // Format and log infestation without quotes
         String formatted = formatPestName(pestName);
-        GardenLogger.warning("Parasite " + formatted + " infested " + count + " plants.");
+        GardenLogger.warning("Parasite {} infested {} plants.", formatted, count);
+        if (pestId != PestTable.NONE) {
+            garden.recordEvent(count, JournalEvent.PARASITE, 0, pestId);
+        }
         return count;
     }
 
@@ -169,14 +166,17 @@ public class GardenSimulationAPI {
         // Log header
         GardenLogger.info("=== Garden State Summary ===");
         // Core stats
-        GardenLogger.info("Temperature: " + garden.getCurrentTemperature() + "°F");
-        GardenLogger.info("Living Plants: " + garden.getLivePlantCount());
-        GardenLogger.info("Dead Plants: " + garden.getDeadPlantCount());
-        GardenLogger.info("Empty Soil: " + garden.getEmptySoilCount());
-        GardenLogger.info("Plants Planted (total): " + garden.getPlantedCount());
-        GardenLogger.info("Plants Watered (total): " + garden.getWateredCount());
+        GardenLogger.info("Temperature: {}°F", garden.getCurrentTemperature());
+        PopulationSnapshot population = garden.getPopulation();
+        GardenLogger.info("Living Plants: {}", population.living());
+        GardenLogger.info("Dead Plants: {}", garden.getDeadPlantCount());
+        GardenLogger.info("Empty Soil: {}", population.empty());
+        GardenLogger.info("Infested Plants: {}", population.infested());
+        GardenLogger.info("Thirsty Plants: {}", population.lowMoisture());
+        GardenLogger.info("Plants Planted (total): {}", garden.getPlantedCount());
+        GardenLogger.info("Plants Watered (total): {}", garden.getWateredCount());
         // Per-type breakdown
-        Map<String, Integer> typeStats = garden.getPlantTypeStats();
+        Map<String, Integer> typeStats = population.byName();
         StringBuilder sb = new StringBuilder("Plant counts by type: ");
         typeStats.forEach((type, count) -> sb.append(type).append("=").append(count).append(", "));
         if (!sb.isEmpty()) sb.setLength(sb.length() - 2);
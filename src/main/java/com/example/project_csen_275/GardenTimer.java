@@ -1,5 +1,6 @@
 package com.example.project_csen_275;
 
+import com.example.project_csen_275.engine.SimulationClock;
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
@@ -11,7 +12,9 @@ import javafx.util.Duration;
 
 /**
  * Timer class for garden simulation that manages game time.
- * Converts real time to game time with 1 real minute = 1 game hour.
+ * Game time follows the simulation clock, with 1 simulated minute = 1 game
+ * hour, so it speeds up and pauses with the simulation. Session time is the
+ * real time the application has been open.
  */
 public class GardenTimer {
     // Game time properties
@@ -25,17 +28,23 @@ public class GardenTimer {
     private final IntegerProperty sessionMinutes = new SimpleIntegerProperty(0);
     private final StringProperty sessionTimeString = new SimpleStringProperty("Session: 0h 0m");
 
+    // Source of simulated time
+    private final SimulationClock clock;
+
     // Game time timeline
     private final Timeline timeline;
 
     /**
      * Initialize the garden timer
+     *
+     * @param clock The simulation clock to report game time from
      */
-    public GardenTimer() {
+    public GardenTimer(SimulationClock clock) {
+        this.clock = clock;
         startTimeMillis = System.currentTimeMillis();
 
-        // Setup timeline to update every second
-        timeline = new Timeline(new KeyFrame(Duration.seconds(1), _ -> updateTime()));
+        // Sample the clock a few times a second so fast-forward shows smoothly
+        timeline = new Timeline(new KeyFrame(Duration.millis(250), _ -> updateTime()));
         timeline.setCycleCount(Animation.INDEFINITE);
     }
 
@@ -58,12 +67,13 @@ public class GardenTimer {
         sessionMinutes.set(elapsedMinutes);
         sessionTimeString.set(String.format("⏱️ Session: %dh %dm", sessionHours, sessionMins));
 
-        // Update game time (1 real minute = 1 game hour)
-        // Convert seconds to game minutes (1 real second = TIME_MULTIPLIER/60 game
-        // minutes)
-        // Time multiplier: 1 real minute = 1 game hour
+        // Update game time (1 simulated minute = 1 game hour)
+        // Convert simulated seconds to game minutes (1 simulated second =
+        // TIME_MULTIPLIER/60 game minutes)
+        // Time multiplier: 1 simulated minute = 1 game hour
         int TIME_MULTIPLIER = 60;
-        int gameMinutesElapsed = (int) (elapsedSeconds * (TIME_MULTIPLIER / 60.0));
+        long simulatedSeconds = clock.getSimulatedMillis() / 1000;
+        int gameMinutesElapsed = (int) (simulatedSeconds * (TIME_MULTIPLIER / 60.0));
         int totalGameHours = gameMinutesElapsed / 60;
         int gameDays = totalGameHours / 24;
         int gameHours = (totalGameHours % 24);
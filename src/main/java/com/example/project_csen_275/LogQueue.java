@@ -0,0 +1,126 @@
+package com.example.project_csen_275;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free multi-producer, single-consumer queue of log entries.
+ * <p>
+ * Slots are preallocated and reused, so logging allocates nothing beyond the
+ * message itself. Each slot has a sequence number that tells producers when
+ * it is free and the consumer when it has been published (D. Vyukov's bounded
+ * queue).
+ */
+final class LogQueue {
+
+    /**
+     * One queued log entry. Written by a producer before publication and read
+     * by the consumer after it.
+     */
+    static final class Entry {
+        long timeMillis;
+        GardenLogger.Level level;
+        String message;
+        // Template arguments, or null if the message is already formatted
+        Object[] args;
+    }
+
+    private final Entry[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // Only written by the consumer; volatile so producers can estimate the size
+    private volatile long head = 0;
+
+    /**
+     * @param capacity queue capacity, rounded up to a power of two
+     */
+    LogQueue(int capacity) {
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        slots = new Entry[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Entry();
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Approximate number of queued entries.
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Try to enqueue an entry.
+     *
+     * @return false if the queue is full
+     */
+    boolean offer(long timeMillis, GardenLogger.Level level, String message, Object[] args) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.getAcquire(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    Entry entry = slots[index];
+                    entry.timeMillis = timeMillis;
+                    entry.level = level;
+                    entry.message = message;
+                    entry.args = args;
+                    sequences.setRelease(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Get the next published entry without removing it. Consumer thread only.
+     *
+     * @return the entry, or null if the queue is empty
+     */
+    Entry peek() {
+        long pos = head;
+        int index = (int) (pos & mask);
+        return sequences.getAcquire(index) == pos + 1 ? slots[index] : null;
+    }
+
+    /**
+     * Release the entry returned by {@link #peek()}. Consumer thread only.
+     */
+    void advance() {
+        long pos = head;
+        int index = (int) (pos & mask);
+        Entry entry = slots[index];
+        entry.message = null;
+        entry.args = null;
+        sequences.setRelease(index, pos + mask + 1);
+        head = pos + 1;
+    }
+
+    /**
+     * Get the number of entries ever enqueued.
+     */
+    long enqueuedCount() {
+        return tail.get();
+    }
+
+    /**
+     * Get the number of entries ever consumed.
+     */
+    long consumedCount() {
+        return head;
+    }
+}
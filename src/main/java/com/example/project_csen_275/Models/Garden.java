@@ -1,16 +1,79 @@
 package com.example.project_csen_275.Models;
 
+import com.example.project_csen_275.GardenLogger;
 import com.example.project_csen_275.Models.Plants.*;
-import java.util.Random;
-import java.util.HashMap;
+import com.example.project_csen_275.journal.EventJournal;
+import com.example.project_csen_275.journal.JournalEvent;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.random.RandomGenerator;
 
+/**
+ * Garden grid model.
+ * <p>
+ * Cells are kept in a structure-of-arrays {@link CellStorage} indexed by
+ * {@code row * cols + col}; {@link #getPlant(int, int)} returns a view over a
+ * cell rather than a stored object. The storage allocates its arrays in
+ * chunks as cells are planted, so a large, mostly fallow garden only takes
+ * memory for its planted chunks.
+ * <p>
+ * {@link #updateGardenState()} processes the grid in fixed bands of
+ * {@value #BAND_ROWS} rows, one row of storage chunks. Each band draws from its own {@link SimulationRandom}
+ * partition stream keyed by the tick number and the band number, and keeps its own
+ * counters, so with a {@link #setTickPool(ForkJoinPool) tick pool} the bands run
+ * in parallel and a seeded garden evolves identically at any thread count.
+ * <p>
+ * A tick only visits the cells that hold a plant, found through an
+ * {@link OccupiedCells} bitset, and the cell work that is due, kept per band
+ * in a {@link TickWheel}. Empty soil with nothing scheduled costs nothing, so
+ * tick time follows the number of plants rather than the garden's area.
+ * <p>
+ * Drying out, rain and temperature stress go through the storage's bulk
+ * operations, which run on the Vector API where it is available (see
+ * {@link CellStorage#dryOut(int, int)}).
+ * <p>
+ * The tick wheels are where deferred per-cell work lives. Today that is
+ * replanting, {@value #DEFAULT_REPLANT_DELAY} ticks after a plant dies unless
+ * {@value #REPLANT_DELAY_PROPERTY} says otherwise.
+ */
 public class Garden {
-    private final Plant[][] grid;
-    private final Random random = new Random();
-    // Delay cycles before replanting after death
-    private final int[][] replantDelay;
-    private static final int REPLANT_DELAY_CYCLES = 3;
+    /**
+     * System property with the number of ticks from a plant's death to its
+     * replanting, counting the tick it died on. At most
+     * {@value CellStorage#MAX_TIMER_STAMP}, so a cell can't die often enough
+     * during one delay to reuse a pending replant's timer stamp.
+     */
+    public static final String REPLANT_DELAY_PROPERTY = "garden.replantDelay";
+    public static final int DEFAULT_REPLANT_DELAY = 3;
+
+    private final int rows;
+    private final int cols;
+    private final CellStorage cells;
+    // Cells occupied by each species, for operations that only concern some species
+    private final SpeciesIndex speciesIndex;
+    // Running population counts, so stats never scan the grid
+    private final PopulationCounters population;
+    private final SimulationRandom random;
+    // Rows per tick band; fixed so the random streams don't depend on thread count,
+    // and one chunk high so parallel bands never allocate or free the same chunk
+    private static final int BAND_ROWS = CellStorage.CHUNK_SIZE;
+    // Gardens smaller than this are ticked on the calling thread
+    private static final int PARALLEL_THRESHOLD = 16_384;
+    private ForkJoinPool tickPool;
+    private long tickCount = 0;
+    // Optional binary event journal, with one record buffer per band
+    private EventJournal journal;
+    private EventJournal.Buffer[] bandJournals = new EventJournal.Buffer[0];
+    // Cells holding a plant; the only cells a tick needs to visit
+    private final OccupiedCells occupied;
+    // Delay cycles before replanting after death, counting the tick of death
+    private final int replantDelay = Math.clamp(Integer.getInteger(REPLANT_DELAY_PROPERTY, DEFAULT_REPLANT_DELAY),
+            1, CellStorage.MAX_TIMER_STAMP);
+    // Deferred cell work per band. Keys are cell << 24 | stamp << 8 | kind, so due work sorts by cell;
+    // the stamp comes from the cell's timer in the storage, and an entry whose stamp is no longer current is stale
+    private final TickWheel[] bandTimers;
+    private static final int TIMER_REPLANT = 0;
 
     // Stats tracking
     private int deadPlantCount = 0;
@@ -20,61 +83,175 @@ public class Garden {
     private int currentTemperature = 70;
 
     public Garden(int rows, int cols) {
-        grid = new Plant[rows][cols];
-        replantDelay = new int[rows][cols];
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                grid[r][c] = createRandomPlant();
-                replantDelay[r][c] = -1; // no replant scheduled
-            }
+        this(rows, cols, SimulationRandom.fromSystemProperties());
+    }
+
+    /**
+     * Create a garden whose layout and evolution are reproducible from a seed.
+     */
+    public Garden(int rows, int cols, long seed) {
+        this(rows, cols, new SimulationRandom(seed));
+    }
+
+    /**
+     * Create a garden drawing all its randomness from a shared simulation RNG.
+     */
+    public Garden(int rows, int cols, SimulationRandom random) {
+        this.rows = rows;
+        this.cols = cols;
+        this.random = random;
+        cells = new CellStorage(rows, cols);
+        bandTimers = new TickWheel[(rows + BAND_ROWS - 1) / BAND_ROWS];
+        for (int b = 0; b < bandTimers.length; b++) {
+            bandTimers[b] = new TickWheel(0);
+        }
+        RandomGenerator layoutRandom = random.substream(SimulationRandom.Purpose.LAYOUT, 0, 0);
+        for (int i = 0; i < cells.size(); i++) {
+            cells.plant(i, randomSpecies(layoutRandom));
         }
+        speciesIndex = cells.indexSpecies();
+        population = cells.countPopulation();
+        occupied = cells.trackOccupied();
+    }
+
+    private static int randomSpecies(RandomGenerator layoutRandom) {
+        int plantType = layoutRandom.nextInt(7); // 0-6
+        // 1-5 are real plants, 0 and 6 leave the soil empty
+        return plantType >= 1 && plantType <= SpeciesTable.PLANTABLE_COUNT
+                ? SpeciesTable.plantable(plantType - 1)
+                : SpeciesTable.EMPTY;
     }
 
-    private Plant createRandomPlant() {
-        int plantType = random.nextInt(7); // 0-6
-        return switch (plantType) {
-            case 1 -> new Carrot();
-            case 2 -> new Cherry();
-            case 3 -> new Corn();
-            case 4 -> new Pumpkin();
-            case 5 -> new Sunflower();
-            default -> new NoPlant();
-        };
+    private int indexOf(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("Cell [" + row + "," + col + "] is outside the garden");
+        }
+        return row * cols + col;
     }
 
+    /**
+     * Place a plant into a cell. The plant's state is copied into the garden
+     * and the plant object becomes a live view of that cell.
+     */
     public void addPlant(int row, int col, Plant plant) {
-        grid[row][col] = plant;
+        int index = indexOf(row, col);
+        cells.place(index, plant);
 
         // If planting a real plant (not NoPlant), increment planted count
         if (!(plant instanceof NoPlant)) {
             plantedCount++;
             // Log planting operation
-            if (com.example.project_csen_275.GardenLogger.class != null) {
-                com.example.project_csen_275.GardenLogger
-                        .info("Planted " + plant.getName() + " at position [" + row + "," + col + "]");
+            if (GardenLogger.isCellLogEnabled(GardenLogger.Level.INFO)) {
+                GardenLogger.info("Planted {} at position [{},{}]", plant.getName(), row, col);
             }
+            recordEvent(index, JournalEvent.PLANTED, cells.getSpecies(index), 0);
         } else {
             // Log clearing operation
-            if (com.example.project_csen_275.GardenLogger.class != null) {
-                com.example.project_csen_275.GardenLogger.info("Cleared position [" + row + "," + col + "]");
+            if (GardenLogger.isCellLogEnabled(GardenLogger.Level.INFO)) {
+                GardenLogger.info("Cleared position [{},{}]", row, col);
             }
+            recordEvent(index, JournalEvent.CLEARED, 0, 0);
         }
     }
 
+    /**
+     * Get a view of the plant in a cell. Changes made through the returned
+     * plant are written straight to the garden.
+     */
     public Plant getPlant(int row, int col) {
-        return grid[row][col];
+        return cells.view(indexOf(row, col));
+    }
+
+    /**
+     * Receives the cells of a region, see {@link #forEachInRegion}.
+     */
+    @FunctionalInterface
+    public interface CellVisitor {
+        void visit(int row, int col, Plant plant);
+    }
+
+    /**
+     * Visit the cells of a rectangular region in row-major order, clipped to
+     * the garden. The cost depends only on the region's size. The plant passed
+     * to the visitor is a reusable view, valid only until the visitor returns.
+     *
+     * @param row    First row of the region
+     * @param col    First column of the region
+     * @param height Number of rows
+     * @param width  Number of columns
+     * @return number of cells visited
+     */
+    public int forEachInRegion(int row, int col, int height, int width, CellVisitor visitor) {
+        int rowStart = Math.max(0, row);
+        int colStart = Math.max(0, col);
+        int rowEnd = Math.min(rows, row + height);
+        int colEnd = Math.min(cols, col + width);
+        if (rowStart >= rowEnd || colStart >= colEnd) {
+            return 0;
+        }
+        Plant[] cursors = CellStorage.newCursors();
+        for (int r = rowStart; r < rowEnd; r++) {
+            int base = r * cols;
+            for (int c = colStart; c < colEnd; c++) {
+                visitor.visit(r, c, cells.cursor(cursors, base + c));
+            }
+        }
+        return (rowEnd - rowStart) * (colEnd - colStart);
+    }
+
+    /**
+     * Visit every plant, living or dead, in row-major order, skipping empty
+     * soil. The cost follows the number of plants rather than the size of the
+     * garden. The plant passed to the visitor is a reusable view, valid only
+     * until the visitor returns.
+     *
+     * @return number of plants visited
+     */
+    public int forEachPlant(CellVisitor visitor) {
+        Plant[] cursors = CellStorage.newCursors();
+        int size = cells.size();
+        int count = 0;
+        for (int i = occupied.next(0, size); i >= 0; i = occupied.next(i + 1, size)) {
+            visitor.visit(i / cols, i % cols, cells.cursor(cursors, i));
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Get the cell storage, for readers that scan the whole grid without
+     * creating plant views. Writes through it bypass the garden's stats.
+     */
+    public CellStorage getCells() {
+        return cells;
     }
 
     public int getRows() {
-        return grid.length;
+        return rows;
+    }
+
+    /**
+     * Get the set of cells changed since it was last drained. Change tracking
+     * starts on the first call, with every cell marked; make that call before
+     * other threads start changing the garden.
+     */
+    public DirtyCells getDirtyCells() {
+        return cells.trackChanges();
     }
 
     public int getCols() {
-        return grid[0].length;
+        return cols;
+    }
+
+    /**
+     * Get the simulation RNG this garden draws from.
+     */
+    public SimulationRandom getRandom() {
+        return random;
     }
 
     public void waterPlant(int row, int col) {
-        Plant plant = grid[row][col];
+        Plant plant = getPlant(row, col);
         // Only water actual plants (not empty soil) that are alive (health > 0)
         if (plant != null && !(plant instanceof NoPlant) && plant.getHealth() > 0) {
             plant.water();
@@ -82,72 +259,224 @@ public class Garden {
         }
     }
 
+    /**
+     * Water a plant already in hand, such as the view passed by
+     * {@link #forEachPlant}, counting it like {@link #waterPlant(int, int)}.
+     */
+    public void waterPlant(Plant plant) {
+        if (!(plant instanceof NoPlant) && plant.getHealth() > 0) {
+            plant.water();
+            wateredCount++;
+        }
+    }
+
     // Silent watering without logging, for automated batch operations
     public void waterPlantSilently(int row, int col) {
-        Plant plant = grid[row][col];
+        Plant plant = getPlant(row, col);
         if (plant != null && !(plant instanceof NoPlant) && plant.getHealth() > 0) {
             plant.water();
             wateredCount++;
         }
     }
 
-    public void updateGardenState() {
-        for (int r = 0; r < grid.length; r++) {
-            for (int c = 0; c < grid[r].length; c++) {
-                Plant plant = grid[r][c];
-                if (plant != null) {
-                    // Only update living plants
-                    if (!(plant instanceof NoPlant)) {
-                        plant.dryOut();
-                        // Apply pest damage only 50% of the time when a pest is present
-                        if (plant.hasPest() && random.nextInt(2) == 0) {
-                            plant.applyPestDamage();
-                        }
-
-                        // Convert dead plants to empty soil (NoPlant)
-                        if (plant.getHealth() <= 0) {
-                            String plantName = plant.getName();
-                            grid[r][c] = new NoPlant();
-                            deadPlantCount++;
-                            replantDelay[r][c] = REPLANT_DELAY_CYCLES; // schedule replant
-                            // Log plant death
-                            if (com.example.project_csen_275.GardenLogger.class != null) {
-                                com.example.project_csen_275.GardenLogger.warning(
-                                    plantName + " at position [" + r + "," + c + "] died and will respawn soon");
-                            }
-                        }
+    /**
+     * Infest every living plant that is vulnerable to a pest. Only the cells
+     * of vulnerable species are visited, so the cost follows the number of
+     * those plants rather than the size of the garden.
+     *
+     * @param pestId Pest ID (see {@link PestTable})
+     * @return number of plants infested
+     */
+    public int infest(int pestId) {
+        int[] infested = { 0 };
+        for (int species = 1; species < SpeciesTable.size(); species++) {
+            if (SpeciesTable.get(species).isVulnerableTo(pestId)) {
+                speciesIndex.forEach(species, i -> {
+                    if (cells.getHealth(i) > 0) {
+                        cells.setPestId(i, pestId);
+                        cells.setPestHealth(i, 20);
+                        infested[0]++;
                     }
-                    // NoPlant instances have health 0 by default, so we don't need to set it here
+                });
+            }
+        }
+        return infested[0];
+    }
+
+    /**
+     * Get the index of the cells each species occupies.
+     */
+    public SpeciesIndex getSpeciesIndex() {
+        return speciesIndex;
+    }
+
+    /**
+     * Set the pool used to tick bands in parallel, or null to tick on the
+     * calling thread. The pool is owned by the caller.
+     */
+    public void setTickPool(ForkJoinPool pool) {
+        this.tickPool = pool;
+    }
+
+    /**
+     * Set the journal that garden events are recorded to, or null to stop
+     * recording. The journal is owned by the caller.
+     */
+    public void setJournal(EventJournal journal) {
+        this.journal = journal;
+    }
+
+    public EventJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Record an event in the journal at the current tick, if a journal is set.
+     *
+     * @param cell    Flat cell index, or the plant count for garden-wide events
+     * @param type    The event type
+     * @param species Species ID, 0 if none
+     * @param value   Pest ID or temperature, depending on the type
+     */
+    public void recordEvent(int cell, JournalEvent type, int species, int value) {
+        if (journal != null) {
+            journal.record(tickCount, cell, type, species, value);
+        }
+    }
+
+    public void updateGardenState() {
+        int bandCount = (rows + BAND_ROWS - 1) / BAND_ROWS;
+        if (journal != null && bandJournals.length < bandCount) {
+            bandJournals = new EventJournal.Buffer[bandCount];
+            for (int b = 0; b < bandCount; b++) {
+                bandJournals[b] = new EventJournal.Buffer();
+            }
+        }
+        BandTick[] bands = new BandTick[bandCount];
+        for (int b = 0; b < bandCount; b++) {
+            bands[b] = new BandTick(b, bandTimers[b], journal != null ? bandJournals[b] : null);
+        }
+
+        if (tickPool != null && bandCount > 1 && cells.size() >= PARALLEL_THRESHOLD) {
+            tickPool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(bands);
                 }
+            });
+        } else {
+            for (BandTick band : bands) {
+                band.compute();
+            }
+        }
+
+        // Merge per-band counters and journal records, in band order
+        int died = 0;
+        int planted = 0;
+        for (BandTick band : bands) {
+            died += band.died;
+            planted += band.planted;
+            if (band.events != null) {
+                journal.append(band.events);
+            }
+        }
+        deadPlantCount += died;
+        plantedCount += planted;
+        tickCount++;
+
+        // One summary line per cycle instead of one line per cell
+        if (!GardenLogger.isPerCellLogging()) {
+            if (died > 0) {
+                GardenLogger.warning("{} plants died this cycle and will respawn soon", died);
             }
+            if (planted > 0) {
+                GardenLogger.info("Automatically planted {} plants this cycle", planted);
+            }
+        }
+    }
+
+    /**
+     * One tick over a band of rows. Only touches cells inside the band, its own
+     * random stream, tick wheel and counters.
+     */
+    private final class BandTick extends RecursiveAction {
+        private final int band;
+        private final TickWheel timers;
+        private final EventJournal.Buffer events;
+        private int died;
+        private int planted;
+
+        BandTick(int band, TickWheel timers, EventJournal.Buffer events) {
+            this.band = band;
+            this.timers = timers;
+            this.events = events;
         }
-        // Handle scheduled replanting
-        for (int r = 0; r < grid.length; r++) {
-            for (int c = 0; c < grid[r].length; c++) {
-                if (grid[r][c] instanceof NoPlant && replantDelay[r][c] >= 0) {
-                    replantDelay[r][c]--;
-                    if (replantDelay[r][c] == 0) {
-                        // Plant a new random plant in this spot
-                        Plant newPlant;
-                        int type = random.nextInt(5) + 1; // 1-5 for real plants
-                        newPlant = switch (type) {
-                            case 2 -> new Cherry();
-                            case 3 -> new Corn();
-                            case 4 -> new Pumpkin();
-                            case 5 -> new Sunflower();
-                            default -> new Carrot();
-                        };
-                        grid[r][c] = newPlant;
-                        plantedCount++;
-                        // Log automatic planting
-                        if (com.example.project_csen_275.GardenLogger.class != null) {
-                            com.example.project_csen_275.GardenLogger.info(
-                                "Automatically planted " + newPlant.getName() + " at position [" + r + "," + c + "]");
-                        }
-                        replantDelay[r][c] = -1;
+
+        @Override
+        protected void compute() {
+            int from = band * BAND_ROWS * cols;
+            int to = Math.min(rows, (band + 1) * BAND_ROWS) * cols;
+            RandomGenerator bandRandom = random.forPartition(tickCount, band);
+            Plant[] cursors = CellStorage.newCursors();
+
+            // Every plant dries out first, a chunk at a time; cells don't affect each other
+            cells.dryOut(band * BAND_ROWS, (band + 1) * BAND_ROWS);
+            // Only visit living plants
+            for (int i = occupied.next(from, to); i >= 0; i = occupied.next(i + 1, to)) {
+                Plant plant = cells.cursor(cursors, i);
+                // Apply pest damage only 50% of the time when a pest is present
+                if (plant.hasPest() && bandRandom.nextInt(2) == 0) {
+                    plant.applyPestDamage();
+                }
+
+                // Convert dead plants to empty soil (NoPlant)
+                if (plant.getHealth() <= 0) {
+                    int species = cells.getSpecies(i);
+                    // Schedule the replant; a later death of the same cell replaces this one.
+                    // Stamped before clearing, so the cell's chunk is kept rather than freed and reallocated
+                    int stamp = cells.stampTimer(i);
+                    timers.schedule(tickCount + replantDelay - 1, (long) i << 24 | stamp << 8 | TIMER_REPLANT);
+                    cells.clear(i);
+                    died++;
+                    if (events != null) {
+                        events.record(tickCount, i, JournalEvent.DIED, species, 0);
+                    }
+                    // Log plant death
+                    if (GardenLogger.isCellLogEnabled(GardenLogger.Level.WARNING)) {
+                        GardenLogger.warning("{} at position [{},{}] died and will respawn soon",
+                                SpeciesTable.nameOf(species), i / cols, i % cols);
                     }
                 }
             }
+            // Run the cell work due this tick, in cell order
+            int dueCount = timers.advance(tickCount);
+            for (int k = 0; k < dueCount; k++) {
+                long key = timers.dueKey(k);
+                int i = (int) (key >>> 24);
+                switch ((int) key & 0xFF) {
+                    case TIMER_REPLANT -> replant(i, (int) (key >>> 8) & CellStorage.MAX_TIMER_STAMP, bandRandom);
+                    default -> throw new IllegalStateException("Unknown cell timer " + (key & 0xFF));
+                }
+            }
+        }
+
+        private void replant(int i, int stamp, RandomGenerator bandRandom) {
+            // Skip replants superseded by a later death, or cells planted by hand meanwhile
+            if (!cells.takeTimer(i, stamp) || cells.getSpecies(i) != SpeciesTable.EMPTY) {
+                return;
+            }
+            // Plant a new random plant in this spot
+            int species = SpeciesTable.plantable(bandRandom.nextInt(SpeciesTable.PLANTABLE_COUNT));
+            cells.plant(i, species);
+            planted++;
+            if (events != null) {
+                events.record(tickCount, i, JournalEvent.REPLANTED, species, 0);
+            }
+            // Log automatic planting
+            if (GardenLogger.isCellLogEnabled(GardenLogger.Level.INFO)) {
+                GardenLogger.info("Automatically planted {} at position [{},{}]",
+                        SpeciesTable.nameOf(species), i / cols, i % cols);
+            }
         }
     }
 
@@ -156,20 +485,11 @@ public class Garden {
      * @return number of plants watered
      */
     public int rain() {
-        int count = 0;
-        for (Plant[] plants : grid) {
-            for (Plant plant : plants) {
-                if (plant != null && !(plant instanceof NoPlant) && plant.getHealth() > 0) {
-                    plant.water(); // standard water + health regen
-                    wateredCount++;
-                    count++;
-                }
-            }
-        }
-        if (com.example.project_csen_275.GardenLogger.class != null) {
-            com.example.project_csen_275.GardenLogger.event(
-                "Rainfall: watered " + count + " plants.");
-        }
+        // Standard water + health regen for every living plant
+        int count = cells.water();
+        wateredCount += count;
+        GardenLogger.event("Rainfall: watered {} plants.", count);
+        recordEvent(count, JournalEvent.RAIN, 0, 0);
         return count;
     }
 
@@ -182,68 +502,32 @@ public class Garden {
         this.currentTemperature = temp;
         int affected = 0;
         if (temp > 75) {
-            // Heat stress: extra drying and heat damage
-            for (Plant[] plants : grid) {
-                for (Plant plant : plants) {
-                    if (!(plant instanceof NoPlant) && plant.getHealth() > 0) {
-                        plant.dryOut(); // Extra drying based on plant type
-                        // Apply heat damage based on plant's heat resistance
-                        plant.applyHeatDamage(temp);
-                        affected++;
-                    }
-                }
-            }
-            if (com.example.project_csen_275.GardenLogger.class != null) {
-                if (javafx.application.Platform.isFxApplicationThread()) {
-                    // We're on the FX thread, safe to update UI
-                    com.example.project_csen_275.GardenLogger.warning("Heat wave! " + affected + " plants affected by high temperature (" + temp + "°F) - different plants respond differently");
-                } else {
-                    // We're not on FX thread, use Platform.runLater
-                    final int finalAffected = affected;
-                    final int finalTemp = temp;
-                    javafx.application.Platform.runLater(() -> com.example.project_csen_275.GardenLogger.warning("Heat wave! " + finalAffected + " plants affected by high temperature (" + finalTemp + "°F) - different plants respond differently"));
-                }
-            }
+            // Heat stress: extra drying, then heat damage based on each plant's heat resistance
+            affected = cells.applyHeat(temp);
+            GardenLogger.warning("Heat wave! {} plants affected by high temperature ({}°F) - different plants respond differently",
+                    affected, temp);
+            recordEvent(affected, JournalEvent.HEAT_WAVE, 0, temp);
         } else if (temp < 65) {
             // Cold stress: damage health based on plant's cold resistance
-            for (Plant[] plants : grid) {
-                for (Plant plant : plants) {
-                    if (!(plant instanceof NoPlant) && plant.getHealth() > 0) {
-                        plant.applyColdDamage(temp);
-                        affected++;
-                    }
-                }
-            }
-            if (com.example.project_csen_275.GardenLogger.class != null) {
-                if (javafx.application.Platform.isFxApplicationThread()) {
-                    // We're on the FX thread, safe to update UI
-                    com.example.project_csen_275.GardenLogger.warning("Frost damage! " + affected + " plants lost health due to low temperature (" + temp + "°F)");
-                } else {
-                    // We're not on FX thread, use Platform.runLater
-                    final int finalAffected = affected;
-                    final int finalTemp = temp;
-                    javafx.application.Platform.runLater(() -> {
-                        com.example.project_csen_275.GardenLogger.warning("Frost damage! " + finalAffected + " plants lost health due to low temperature (" + finalTemp + "°F)");
-                    });
-                }
-            }
+            affected = cells.applyCold(temp);
+            GardenLogger.warning("Frost damage! {} plants lost health due to low temperature ({}°F)", affected, temp);
+            recordEvent(affected, JournalEvent.FROST, 0, temp);
         } else {
             // Ideal temperature
-            if (com.example.project_csen_275.GardenLogger.class != null) {
-                if (javafx.application.Platform.isFxApplicationThread()) {
-                    // We're on the FX thread, safe to update UI
-                    com.example.project_csen_275.GardenLogger.event("Ideal temperature: " + temp + "°F. No stress applied.");
-                } else {
-                    // We're not on FX thread, use Platform.runLater
-                    final int finalTemp = temp;
-                    javafx.application.Platform.runLater(() -> {
-                        com.example.project_csen_275.GardenLogger.event("Ideal temperature: " + finalTemp + "°F. No stress applied.");
-                    });
-                }
-            }
+            GardenLogger.event("Ideal temperature: {}°F. No stress applied.", temp);
+            recordEvent(0, JournalEvent.IDEAL_TEMPERATURE, 0, temp);
         }
     }
     
+    /**
+     * Dry out every plant once, outside the regular tick.
+     *
+     * @return number of plants dried out
+     */
+    public int dryOutAll() {
+        return cells.dryOut(0, rows);
+    }
+
     /**
      * Updates temperature value without logging or UI updates.
      * Safe to call from any thread.
@@ -264,17 +548,13 @@ public class Garden {
      * Clears all plants from the garden and resets stats.
      */
     public void clearGarden() {
-        for (int r = 0; r < grid.length; r++) {
-            for (int c = 0; c < grid[0].length; c++) {
-                grid[r][c] = new NoPlant();
-            }
+        for (int i = occupied.next(0, cells.size()); i >= 0; i = occupied.next(i + 1, cells.size())) {
+            cells.clear(i);
         }
         deadPlantCount = 0;
         plantedCount = 0;
         wateredCount = 0;
-        if (com.example.project_csen_275.GardenLogger.class != null) {
-            com.example.project_csen_275.GardenLogger.info("Garden cleared for initialization");
-        }
+        GardenLogger.info("Garden cleared for initialization");
     }
 
     // Add methods to get garden stats
@@ -290,57 +570,35 @@ public class Garden {
         return wateredCount;
     }
 
+    /**
+     * Get the current population counts: living plants, empty soil, plants per
+     * species, infested and thirsty plants. The counts are kept up to date as
+     * cells change, so this does not scan the grid.
+     */
+    public PopulationSnapshot getPopulation() {
+        return population.snapshot();
+    }
+
     /**
      * Get the count of each type of plant currently in the garden
      * 
      * @return A map with plant names as keys and counts as values
      */
     public Map<String, Integer> getPlantTypeStats() {
-        Map<String, Integer> stats = new HashMap<>();
-
-        for (Plant[] plants : grid) {
-            for (Plant plant : plants) {
-                if (plant != null) {
-                    String plantName = plant.getName();
-                    stats.put(plantName, stats.getOrDefault(plantName, 0) + 1);
-                }
-            }
-        }
-
-        return stats;
+        return population.snapshot().byName();
     }
 
     /**
      * Get the total count of living plants (excluding empty soil)
      */
     public int getLivePlantCount() {
-        int count = 0;
-
-        for (Plant[] plants : grid) {
-            for (Plant plant : plants) {
-                if (plant != null && !(plant instanceof NoPlant)) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return population.getLiving();
     }
 
     /**
      * Get the count of empty soil plots
      */
     public int getEmptySoilCount() {
-        int count = 0;
-
-        for (Plant[] plants : grid) {
-            for (Plant plant : plants) {
-                if (plant instanceof NoPlant) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return population.getEmpty();
     }
 }
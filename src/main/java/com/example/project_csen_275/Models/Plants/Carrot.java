@@ -9,10 +9,9 @@ public class Carrot extends Plant {
         super("Carrot", 100, 70, false, "carrot_mid.png");
     }
 
-    // Override dryOut to simulate carrot growth based on moisture
+    // Switch the carrot's image by growth stage based on moisture
     @Override
-    public void dryOut() {
-        super.dryOut();
+    protected void updateGrowthImage() {
         // If moisture level is good, change image to grown carrot
         if (getMoistureLevel() > 60 && getHealth() > 80) {
             setImageUrl("carrot_grown.png");
@@ -0,0 +1,208 @@
+package com.example.project_csen_275.Models.Plants;
+
+import com.example.project_csen_275.GardenLogger;
+
+/**
+ * Bulk arithmetic of the plant care operations over one chunk of a
+ * {@link CellStorage}: drying out, watering and heat and cold damage.
+ * <p>
+ * A kernel works on the chunk's primitive arrays a row at a time. Which cells
+ * of a row take part is a {@code long} bitmap with bit {@code c} for column
+ * {@code c}, so a pass costs nothing for empty soil and the caller can hand
+ * the cells the kernel does not cover to their plant objects. Per-species
+ * values (damage, which species an operation may run for) come from
+ * {@link Tables}, indexed by species ID. The tables also hold each species'
+ * growth image for every moisture and health level from 0 to 100, so a pass
+ * need not call {@link Plant#updateGrowthImage()} per plant.
+ * <p>
+ * {@link ScalarCellKernel} is always available. {@code VectorCellKernel} uses
+ * the JDK's incubating Vector API and is only loaded when the
+ * {@code jdk.incubator.vector} module is present (run with
+ * {@code --add-modules jdk.incubator.vector}); set {@value #KERNEL_PROPERTY}
+ * to {@code scalar} to turn it off. Both compute exactly what {@link Plant}
+ * does one plant at a time, including the 16-bit wrap of the stored values.
+ */
+abstract class CellKernel {
+    /**
+     * System property choosing the kernel: {@code vector} (the default, if
+     * available) or {@code scalar}.
+     */
+    static final String KERNEL_PROPERTY = "garden.kernel";
+
+    // Operations, also bit positions in Species' kernel operations
+    static final int DRY_OUT = 0;
+    static final int WATER = 1;
+    static final int HEAT = 2;
+    static final int COLD = 3;
+    private static final int OPS = 4;
+
+    /**
+     * Species IDs below this may be handled by a kernel; the vector kernel
+     * looks species up within a single vector of at least this many lanes.
+     */
+    static final int MAX_SPECIES = 8;
+    // Length of each table: room for the widest vector of 16-bit lanes
+    static final int TABLE_SIZE = 64;
+    // Moisture and health levels 0-100, for which growth images are looked up rather than computed
+    static final int GROWTH_LEVELS = 101;
+
+    static final ScalarCellKernel SCALAR = new ScalarCellKernel();
+    private static final CellKernel VECTOR = loadVector();
+
+    private static volatile Tables tables = new Tables(0);
+
+    /**
+     * Per-species values of the registered species, padded with zeros to
+     * {@value #TABLE_SIZE} entries so a vector kernel can load them as lanes.
+     */
+    static final class Tables {
+        final int speciesCount;
+        // 1 where the kernel may run an operation for a species, by operation
+        final short[][] eligible = new short[OPS][TABLE_SIZE];
+        // Drought damage by damage factor 1-4 (index 0 unused)
+        final short[][] drought = new short[Species.MAX_DROUGHT_FACTOR + 1][TABLE_SIZE];
+        final short[] heat = new short[TABLE_SIZE];
+        final short[] cold = new short[TABLE_SIZE];
+        // Image ID by moisture * 101 + health, both 0-100, for species with growth images; null for others
+        final byte[][] growthImages = new byte[MAX_SPECIES][];
+
+        Tables(int speciesCount) {
+            this.speciesCount = speciesCount;
+            for (int id = 1; id < Math.min(speciesCount, MAX_SPECIES); id++) {
+                Species species = SpeciesTable.get(id);
+                for (int op = 0; op < OPS; op++) {
+                    eligible[op][id] = (short) (species.inKernel(op) ? 1 : 0);
+                }
+                for (int factor = 1; factor <= Species.MAX_DROUGHT_FACTOR; factor++) {
+                    drought[factor][id] = (short) species.droughtDamage(factor);
+                }
+                heat[id] = (short) species.heatDamage();
+                cold[id] = (short) species.coldDamage();
+                if (species.hasGrowthImages()) {
+                    growthImages[id] = growthImages(species);
+                }
+            }
+        }
+
+        // Run the species' growth image choice once for every moisture and health level
+        private static byte[] growthImages(Species species) {
+            byte[] images = new byte[GROWTH_LEVELS * GROWTH_LEVELS];
+            Plant plant = species.prototype().detachedCopy();
+            for (int moisture = 0; moisture < GROWTH_LEVELS; moisture++) {
+                for (int health = 0; health < GROWTH_LEVELS; health++) {
+                    plant.storage().setMoisture(0, moisture);
+                    plant.storage().setHealth(0, health);
+                    plant.updateGrowthImage();
+                    images[moisture * GROWTH_LEVELS + health] = (byte) plant.storage().getImageId(0);
+                }
+            }
+            return images;
+        }
+    }
+
+    /**
+     * Get the tables for the species registered so far.
+     */
+    static Tables tables() {
+        Tables current = tables;
+        if (current.speciesCount != SpeciesTable.size()) {
+            current = new Tables(SpeciesTable.size());
+            tables = current;
+        }
+        return current;
+    }
+
+    /**
+     * Get the kernel new storage uses: the vector kernel if it is available
+     * and not turned off by {@value #KERNEL_PROPERTY}.
+     */
+    static CellKernel preferred() {
+        return VECTOR != null && !"scalar".equals(System.getProperty(KERNEL_PROPERTY)) ? VECTOR : SCALAR;
+    }
+
+    /**
+     * Get the vector kernel, or null if the Vector API is not available.
+     */
+    static CellKernel vector() {
+        return VECTOR;
+    }
+
+    private static CellKernel loadVector() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            // Loaded by name so nothing links against the Vector API without the module
+            CellKernel kernel = (CellKernel) Class.forName(CellKernel.class.getPackageName() + ".VectorCellKernel")
+                    .getDeclaredConstructor().newInstance();
+            if (kernel.lanes() < MAX_SPECIES) {
+                GardenLogger.info("Vector API has {} lanes of 16 bits here; using the scalar cell kernel",
+                        kernel.lanes());
+                return null;
+            }
+            return kernel;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            GardenLogger.warning("Vector cell kernel unavailable, using the scalar one: {}", e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Get the number of cells the kernel processes per step.
+     */
+    abstract int lanes();
+
+    /**
+     * Find the cells of a chunk an operation applies to: plants, and with
+     * {@code healthyOnly} only those with health above 0.
+     *
+     * @param kernelRows Set to the cells of species the kernel handles, by row
+     * @param otherRows  Set to the cells of other species, by row
+     */
+    abstract void select(Tables tables, int op, byte[] species, short[] health, int width, int height,
+            boolean healthyOnly, long[] kernelRows, long[] otherRows);
+
+    /**
+     * Dry out the selected cells: moisture down by 1, and drought damage by
+     * species below {@value PopulationCounters#LOW_MOISTURE} moisture.
+     *
+     * @param changedRows Cells whose moisture or health changed are added, by row
+     * @return change in the number of plants below {@value PopulationCounters#LOW_MOISTURE} moisture
+     */
+    abstract int dryOut(Tables tables, byte[] species, short[] moisture, short[] health, int width, int height,
+            long[] rows, long[] changedRows);
+
+    /**
+     * Water the selected cells: moisture up by 20 and health up by 5, both at most 100.
+     *
+     * @param changedRows Cells whose moisture or health changed are added, by row
+     * @return change in the number of plants below {@value PopulationCounters#LOW_MOISTURE} moisture
+     */
+    abstract int water(short[] moisture, short[] health, int width, int height, long[] rows, long[] changedRows);
+
+    /**
+     * Take a per-species amount of health from the selected cells, stopping at 0.
+     *
+     * @param damage      Damage by species ID, one of the {@link Tables}
+     * @param changedRows Cells whose health changed are added, by row
+     */
+    abstract void damage(short[] damage, byte[] species, short[] health, int width, int height, long[] rows,
+            long[] changedRows);
+
+    // The per-cell arithmetic both kernels follow, written to match Plant exactly
+
+    static int driedMoisture(int moisture) {
+        // max(0, m - 1) without leaving the 16-bit range
+        return Math.max(moisture, 1) - 1;
+    }
+
+    static int droughtFactor(int driedMoisture) {
+        // (30 - m) / 10 + 1 for m below 30
+        return 1 + (driedMoisture <= 20 ? 1 : 0) + (driedMoisture <= 10 ? 1 : 0) + (driedMoisture == 0 ? 1 : 0);
+    }
+
+    static int damaged(int health, int damage) {
+        // max(0, h - d) computed as max(h, d) - d, which wraps like the stored short
+        return (short) (Math.max(health, damage) - damage);
+    }
+}
@@ -0,0 +1,738 @@
+package com.example.project_csen_275.Models.Plants;
+
+/**
+ * Structure-of-arrays storage for garden cells.
+ * <p>
+ * Each cell is addressed by a flat index {@code row * cols + col} and its
+ * state lives in parallel primitive arrays instead of a heap {@link Plant}
+ * object per cell. A fresh storage is all empty soil. Plants handed out by
+ * {@link #view(int)} are lightweight views that read and write a single index.
+ * <p>
+ * The arrays are split into chunks of {@value #CHUNK_SIZE} x
+ * {@value #CHUNK_SIZE} cells, found through a table indexed by chunk row and
+ * column. A chunk is allocated on the first write that leaves one of its cells
+ * in a non-empty state and freed again once it holds no plant and no pending
+ * cell timer, so memory follows the planted area rather than the grid's
+ * bounding box. Cells of a missing chunk read as empty soil. Chunks never
+ * straddle a multiple of {@value #CHUNK_SIZE} rows, so threads that each own
+ * such a band of rows can plant and clear cells without sharing chunks.
+ * <p>
+ * The bulk operations ({@link #dryOut(int, int)}, {@link #water()},
+ * {@link #applyHeat(int)} and {@link #applyCold(int)}) work a chunk at a time
+ * through a {@link CellKernel}, vectorised where the Vector API is available.
+ * Plants of species whose class overrides an operation are still handled one
+ * at a time through their plant views.
+ */
+public final class CellStorage {
+    /**
+     * Rows and columns per chunk.
+     */
+    public static final int CHUNK_SIZE = 64;
+    private static final int CHUNK_BITS = 6;
+    /**
+     * Largest timer stamp, see {@link #stampTimer(int)}; stamps fit in 16 bits.
+     */
+    public static final int MAX_TIMER_STAMP = 0xFFFF;
+
+    // Interned image names (ID 0 = empty soil tile); pest IDs come from PestTable
+    static final SymbolTable IMAGES = new SymbolTable("tile_0000.png");
+
+    /**
+     * The cell state of one chunk.
+     */
+    private static final class Chunk {
+        final short[] health;
+        final short[] moisture;
+        final short[] pestHealth;
+        final byte[] species;
+        final byte[] pestType;
+        final byte[] image;
+        // Stamp of each cell's pending timer, 0 if none
+        final char[] timer;
+        // Position of each cell in its species' index list, allocated once indexed
+        int[] indexSlot;
+        // Cells holding a plant and cells with a pending timer
+        int living;
+        int timers;
+
+        Chunk(int cells) {
+            health = new short[cells];
+            moisture = new short[cells];
+            pestHealth = new short[cells];
+            species = new byte[cells];
+            pestType = new byte[cells];
+            image = new byte[cells];
+            timer = new char[cells];
+        }
+    }
+
+    private final int size;
+    private final int cols;
+    // Chunk table, row-major by chunk row and column; null entries are empty soil
+    private final Chunk[] chunks;
+    private final int chunkCols;
+    // Chunk extent, smaller than CHUNK_SIZE for grids narrower or shorter than that
+    private final int chunkWidth;
+    private final int chunkHeight;
+    // index / cols as a multiply and shift
+    private final long rowMultiplier;
+    private final int rowShift;
+    // Cells changed since the renderer last looked, or null if not tracked
+    private DirtyCells changes;
+    // Cells of each species, or null if not indexed
+    private SpeciesIndex speciesIndex;
+    // Population counts, or null if not counted
+    private PopulationCounters counters;
+    // Cells holding a plant, or null if not tracked
+    private OccupiedCells occupied;
+    // Arithmetic of the bulk plant operations
+    private CellKernel kernel = CellKernel.preferred();
+
+    /**
+     * Create storage for a single row of cells, all initialised to empty soil.
+     *
+     * @param size number of cells
+     */
+    public CellStorage(int size) {
+        this(1, size);
+    }
+
+    /**
+     * Create storage for a grid of cells, all initialised to empty soil.
+     * Nothing is allocated per cell until cells are planted.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     */
+    public CellStorage(int rows, int cols) {
+        if (rows < 0 || cols < 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid grid size " + rows + "x" + cols);
+        }
+        size = rows * cols;
+        this.cols = Math.max(1, cols);
+        chunkCols = (this.cols + CHUNK_SIZE - 1) >>> CHUNK_BITS;
+        chunks = new Chunk[((rows + CHUNK_SIZE - 1) >>> CHUNK_BITS) * chunkCols];
+        chunkWidth = Math.min(CHUNK_SIZE, this.cols);
+        chunkHeight = Math.min(CHUNK_SIZE, Math.max(1, rows));
+        // Rounded-up reciprocal: exact for every index below 2^31 (Granlund-Montgomery)
+        int log = 32 - Integer.numberOfLeadingZeros(this.cols - 1);
+        rowShift = 31 + log;
+        rowMultiplier = ((1L << rowShift) + this.cols - 1) / this.cols;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the number of chunks currently allocated, a measure of the memory in
+     * use. Each chunk holds up to {@value #CHUNK_SIZE} x {@value #CHUNK_SIZE} cells.
+     */
+    public int allocatedChunks() {
+        int n = 0;
+        for (Chunk chunk : chunks) {
+            if (chunk != null) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Find where a cell's state is kept: the chunk number in the high 32 bits
+     * and the offset within the chunk in the low bits. The location depends
+     * only on the index, so a view works it out once when it is bound.
+     */
+    long locate(int index) {
+        int row = (int) ((index * rowMultiplier) >>> rowShift);
+        int col = index - row * cols;
+        int chunk = (row >>> CHUNK_BITS) * chunkCols + (col >>> CHUNK_BITS);
+        return (long) chunk << 32 | (row & (CHUNK_SIZE - 1)) * chunkWidth + (col & (CHUNK_SIZE - 1));
+    }
+
+    private Chunk chunkAt(long cell) {
+        return chunks[(int) (cell >>> 32)];
+    }
+
+    /**
+     * Get the chunk to write a cell value to, allocating it unless the write
+     * would only store the empty-soil default into a missing chunk.
+     *
+     * @return the chunk, or null if there is nothing to write
+     */
+    private Chunk writable(long cell, boolean isDefault) {
+        Chunk chunk = chunks[(int) (cell >>> 32)];
+        return chunk != null || isDefault ? chunk : allocate((int) (cell >>> 32));
+    }
+
+    // Kept out of writable() so the common path stays small enough to inline
+    private Chunk allocate(int c) {
+        Chunk chunk = new Chunk(chunkWidth * chunkHeight);
+        chunks[c] = chunk;
+        return chunk;
+    }
+
+    // Free a cell's chunk if it no longer holds anything but empty soil
+    private void release(long cell) {
+        Chunk chunk = chunkAt(cell);
+        if (chunk != null && chunk.living == 0 && chunk.timers == 0) {
+            chunks[(int) (cell >>> 32)] = null;
+        }
+    }
+
+    /**
+     * Start recording which cells change. Every cell starts out marked.
+     *
+     * @return the set of changed cells
+     */
+    public DirtyCells trackChanges() {
+        if (changes == null) {
+            changes = new DirtyCells(size());
+            changes.markAll();
+        }
+        return changes;
+    }
+
+    /**
+     * Start keeping an index of the cells each species occupies, built from
+     * the current contents.
+     *
+     * @return the species index
+     */
+    public synchronized SpeciesIndex indexSpecies() {
+        if (speciesIndex == null) {
+            speciesIndex = new SpeciesIndex(this);
+        }
+        return speciesIndex;
+    }
+
+    /**
+     * Start keeping the set of cells that hold a plant, starting from the
+     * current contents.
+     *
+     * @return the set of occupied cells
+     */
+    public synchronized OccupiedCells trackOccupied() {
+        if (occupied == null) {
+            occupied = new OccupiedCells(this);
+        }
+        return occupied;
+    }
+
+    /**
+     * Start keeping running population counts, starting from the current contents.
+     *
+     * @return the counters
+     */
+    public synchronized PopulationCounters countPopulation() {
+        if (counters == null) {
+            counters = new PopulationCounters(this);
+        }
+        return counters;
+    }
+
+    private void changed(int index) {
+        if (changes != null) {
+            changes.mark(index);
+        }
+    }
+
+    // Take a cell out of the counts before several of its fields are replaced
+    private void uncount(long cell) {
+        if (counters != null) {
+            counters.remove(speciesAt(cell), moistureAt(cell), pestIdAt(cell));
+        }
+    }
+
+    // Count a cell again once its fields are replaced
+    private void count(long cell) {
+        if (counters != null) {
+            counters.add(speciesAt(cell), moistureAt(cell), pestIdAt(cell));
+        }
+    }
+
+    /**
+     * Get the species ID of a cell (see {@link SpeciesTable}).
+     */
+    public int getSpecies(int index) {
+        return speciesAt(locate(index));
+    }
+
+    int speciesAt(long cell) {
+        Chunk chunk = chunkAt(cell);
+        return chunk != null ? chunk.species[(int) cell] & 0xFF : SpeciesTable.EMPTY;
+    }
+
+    private void setSpecies(int index, long cell, int speciesId) {
+        Chunk chunk = writable(cell, speciesId == SpeciesTable.EMPTY);
+        if (chunk == null) {
+            return;
+        }
+        int previous = chunk.species[(int) cell] & 0xFF;
+        chunk.species[(int) cell] = (byte) speciesId;
+        if (speciesIndex != null && previous != speciesId) {
+            speciesIndex.move(index, previous, speciesId);
+        }
+        if ((previous == SpeciesTable.EMPTY) != (speciesId == SpeciesTable.EMPTY)) {
+            chunk.living += speciesId == SpeciesTable.EMPTY ? -1 : 1;
+            if (occupied != null) {
+                if (speciesId == SpeciesTable.EMPTY) {
+                    occupied.remove(index);
+                } else {
+                    occupied.add(index);
+                }
+            }
+        }
+    }
+
+    public int getHealth(int index) {
+        return healthAt(locate(index));
+    }
+
+    int healthAt(long cell) {
+        Chunk chunk = chunkAt(cell);
+        return chunk != null ? chunk.health[(int) cell] : 0;
+    }
+
+    public void setHealth(int index, int value) {
+        setHealthAt(index, locate(index), value);
+    }
+
+    void setHealthAt(int index, long cell, int value) {
+        Chunk chunk = writable(cell, (short) value == 0);
+        if (chunk != null && chunk.health[(int) cell] != (short) value) {
+            chunk.health[(int) cell] = (short) value;
+            changed(index);
+        }
+    }
+
+    public int getMoisture(int index) {
+        return moistureAt(locate(index));
+    }
+
+    int moistureAt(long cell) {
+        Chunk chunk = chunkAt(cell);
+        return chunk != null ? chunk.moisture[(int) cell] : 0;
+    }
+
+    public void setMoisture(int index, int value) {
+        setMoistureAt(index, locate(index), value);
+    }
+
+    void setMoistureAt(int index, long cell, int value) {
+        Chunk chunk = writable(cell, (short) value == 0);
+        int offset = (int) cell;
+        if (chunk != null && chunk.moisture[offset] != (short) value) {
+            if (counters != null) {
+                counters.moistureChanged(chunk.species[offset] & 0xFF, chunk.moisture[offset], value);
+            }
+            chunk.moisture[offset] = (short) value;
+            changed(index);
+        }
+    }
+
+    public int getPestHealth(int index) {
+        return pestHealthAt(locate(index));
+    }
+
+    int pestHealthAt(long cell) {
+        Chunk chunk = chunkAt(cell);
+        return chunk != null ? chunk.pestHealth[(int) cell] : 0;
+    }
+
+    public void setPestHealth(int index, int value) {
+        setPestHealthAt(index, locate(index), value);
+    }
+
+    void setPestHealthAt(int index, long cell, int value) {
+        Chunk chunk = writable(cell, (short) value == 0);
+        if (chunk != null && chunk.pestHealth[(int) cell] != (short) value) {
+            chunk.pestHealth[(int) cell] = (short) value;
+            changed(index);
+        }
+    }
+
+    /**
+     * Get the pest ID of a cell (see {@link PestTable}), 0 if there is no pest.
+     */
+    public int getPestId(int index) {
+        return pestIdAt(locate(index));
+    }
+
+    int pestIdAt(long cell) {
+        Chunk chunk = chunkAt(cell);
+        return chunk != null ? chunk.pestType[(int) cell] & 0xFF : 0;
+    }
+
+    public void setPestId(int index, int pestId) {
+        setPestIdAt(index, locate(index), pestId);
+    }
+
+    void setPestIdAt(int index, long cell, int pestId) {
+        Chunk chunk = writable(cell, (byte) pestId == 0);
+        int offset = (int) cell;
+        if (chunk != null && chunk.pestType[offset] != (byte) pestId) {
+            if (counters != null) {
+                counters.pestChanged(chunk.pestType[offset] & 0xFF, pestId);
+            }
+            chunk.pestType[offset] = (byte) pestId;
+            changed(index);
+        }
+    }
+
+    public int getImageId(int index) {
+        return imageIdAt(locate(index));
+    }
+
+    int imageIdAt(long cell) {
+        Chunk chunk = chunkAt(cell);
+        return chunk != null ? chunk.image[(int) cell] & 0xFF : 0;
+    }
+
+    /**
+     * Get the image file name registered under an ID.
+     */
+    public static String imageNameOf(int imageId) {
+        return IMAGES.nameOf(imageId);
+    }
+
+    public void setImageId(int index, int imageId) {
+        setImageIdAt(index, locate(index), imageId);
+    }
+
+    void setImageIdAt(int index, long cell, int imageId) {
+        Chunk chunk = writable(cell, (byte) imageId == 0);
+        if (chunk != null && chunk.image[(int) cell] != (byte) imageId) {
+            chunk.image[(int) cell] = (byte) imageId;
+            changed(index);
+        }
+    }
+
+    /**
+     * Give a cell a new timer stamp, marking it as having deferred work
+     * pending. The cell's chunk is kept while the work is pending, and a stamp
+     * handed out earlier for the same cell is no longer current. Stamps wrap
+     * after {@value #MAX_TIMER_STAMP}, so a stale stamp can only be mistaken
+     * for the current one if the cell is stamped that many times while it is
+     * still pending.
+     *
+     * @return the stamp, 1 to {@value #MAX_TIMER_STAMP}
+     */
+    public int stampTimer(int index) {
+        long cell = locate(index);
+        Chunk chunk = writable(cell, false);
+        int previous = chunk.timer[(int) cell];
+        if (previous == 0) {
+            chunk.timers++;
+        }
+        int stamp = previous % MAX_TIMER_STAMP + 1;
+        chunk.timer[(int) cell] = (char) stamp;
+        return stamp;
+    }
+
+    /**
+     * Finish a cell's deferred work if a stamp is still the cell's current one.
+     *
+     * @return true if the stamp was current; false if it was superseded
+     */
+    public boolean takeTimer(int index, int stamp) {
+        long cell = locate(index);
+        Chunk chunk = chunkAt(cell);
+        if (chunk == null || stamp == 0 || chunk.timer[(int) cell] != stamp) {
+            return false;
+        }
+        chunk.timer[(int) cell] = 0;
+        chunk.timers--;
+        release(cell);
+        return true;
+    }
+
+    // Position of a cell in its species' index list; only called by SpeciesIndex, under its lock
+    int getIndexSlot(int index) {
+        long cell = locate(index);
+        return chunkAt(cell).indexSlot[(int) cell];
+    }
+
+    void setIndexSlot(int index, int slot) {
+        long cell = locate(index);
+        Chunk chunk = chunkAt(cell);
+        if (chunk.indexSlot == null) {
+            chunk.indexSlot = new int[chunk.species.length];
+        }
+        chunk.indexSlot[(int) cell] = slot;
+    }
+
+    /**
+     * Copy the state of a plant into a cell without binding the plant to it.
+     */
+    public void copyFrom(int index, Plant plant) {
+        long cell = locate(index);
+        uncount(cell);
+        setSpecies(index, cell, SpeciesTable.idOf(plant));
+        copyState(cell, plant.storage(), plant.cell());
+        count(cell);
+        changed(index);
+        release(cell);
+    }
+
+    /**
+     * Copy everything except the species ID from another cell.
+     */
+    void copyState(long cell, CellStorage source, long from) {
+        setState(cell, source.healthAt(from), source.moistureAt(from), source.pestHealthAt(from),
+                source.pestIdAt(from), source.imageIdAt(from));
+    }
+
+    // Write the fields of a cell without change tracking; the caller counts and marks it
+    private void setState(long cell, int health, int moisture, int pestHealth, int pestId, int imageId) {
+        Chunk chunk = writable(cell, (health | moisture | pestHealth | pestId | imageId) == 0);
+        if (chunk == null) {
+            return;
+        }
+        int offset = (int) cell;
+        chunk.health[offset] = (short) health;
+        chunk.moisture[offset] = (short) moisture;
+        chunk.pestHealth[offset] = (short) pestHealth;
+        chunk.pestType[offset] = (byte) pestId;
+        chunk.image[offset] = (byte) imageId;
+    }
+
+    /**
+     * Place a plant into a cell. The plant's current state is copied into the
+     * cell and the plant becomes a view over it.
+     */
+    public void place(int index, Plant plant) {
+        copyFrom(index, plant);
+        plant.bind(this, index);
+    }
+
+    /**
+     * Plant a fresh instance of a species into a cell.
+     */
+    public void plant(int index, int speciesId) {
+        Plant prototype = SpeciesTable.prototype(speciesId);
+        long cell = locate(index);
+        uncount(cell);
+        setSpecies(index, cell, speciesId);
+        copyState(cell, prototype.storage(), prototype.cell());
+        count(cell);
+        changed(index);
+        release(cell);
+    }
+
+    /**
+     * Reset a cell to empty soil. A pending cell timer is kept.
+     */
+    public void clear(int index) {
+        long cell = locate(index);
+        uncount(cell);
+        setSpecies(index, cell, SpeciesTable.EMPTY);
+        setState(cell, 0, 0, 0, 0, 0);
+        count(cell);
+        changed(index);
+        release(cell);
+    }
+
+    /**
+     * Choose whether the bulk operations use the vector kernel, if the Vector
+     * API is available (see {@link CellKernel}).
+     *
+     * @return true if the vector kernel is now in use
+     */
+    public boolean useVectorKernel(boolean vector) {
+        kernel = vector && CellKernel.vector() != null ? CellKernel.vector() : CellKernel.SCALAR;
+        return isVectorKernel();
+    }
+
+    public boolean isVectorKernel() {
+        return kernel != CellKernel.SCALAR;
+    }
+
+    /**
+     * Dry out every plant in a range of rows, as {@link Plant#dryOut()} does.
+     * Threads may dry out disjoint bands of {@value #CHUNK_SIZE} rows at once.
+     *
+     * @param rowFrom First row
+     * @param rowTo   End of the rows, exclusive
+     * @return number of plants dried out
+     */
+    public int dryOut(int rowFrom, int rowTo) {
+        return bulk(CellKernel.DRY_OUT, rowFrom, rowTo, false, 0);
+    }
+
+    /**
+     * Water every plant with health above 0, as {@link Plant#water()} does.
+     *
+     * @return number of plants watered
+     */
+    public int water() {
+        return bulk(CellKernel.WATER, 0, rowCount(), true, 0);
+    }
+
+    /**
+     * Put every plant with health above 0 through a heat wave: each dries out
+     * and then takes heat damage, as {@link Plant#dryOut()} and
+     * {@link Plant#applyHeatDamage(int)} do.
+     *
+     * @return number of plants affected
+     */
+    public int applyHeat(int temperature) {
+        return bulk(CellKernel.HEAT, 0, rowCount(), true, temperature);
+    }
+
+    /**
+     * Apply cold damage to every plant with health above 0, as
+     * {@link Plant#applyColdDamage(int)} does.
+     *
+     * @return number of plants affected
+     */
+    public int applyCold(int temperature) {
+        return bulk(CellKernel.COLD, 0, rowCount(), true, temperature);
+    }
+
+    private int rowCount() {
+        return size / cols;
+    }
+
+    private int bulk(int op, int rowFrom, int rowTo, boolean healthyOnly, int temperature) {
+        CellKernel.Tables tables = CellKernel.tables();
+        long[] kernelRows = new long[CHUNK_SIZE];
+        long[] otherRows = new long[CHUNK_SIZE];
+        long[] changedRows = new long[CHUNK_SIZE];
+        Plant[] cursors = null;
+        int count = 0;
+        int lowDelta = 0;
+        rowFrom = Math.max(0, rowFrom);
+        rowTo = Math.min(rowCount(), rowTo);
+        int lastChunkRow = rowFrom < rowTo ? (rowTo - 1) >>> CHUNK_BITS : -1;
+        for (int chunkRow = rowFrom >>> CHUNK_BITS; chunkRow <= lastChunkRow; chunkRow++) {
+            int top = chunkRow << CHUNK_BITS;
+            int firstRow = Math.max(0, rowFrom - top);
+            int endRow = Math.min(chunkHeight, rowTo - top);
+            for (int chunkCol = 0; chunkCol < chunkCols; chunkCol++) {
+                Chunk chunk = chunks[chunkRow * chunkCols + chunkCol];
+                if (chunk == null || chunk.living == 0) {
+                    continue;
+                }
+                kernel.select(tables, op, chunk.species, chunk.health, chunkWidth, endRow, healthyOnly,
+                        kernelRows, otherRows);
+                for (int r = 0; r < endRow; r++) {
+                    if (r < firstRow) {
+                        kernelRows[r] = 0;
+                        otherRows[r] = 0;
+                    }
+                    changedRows[r] = 0;
+                    count += Long.bitCount(kernelRows[r]) + Long.bitCount(otherRows[r]);
+                }
+
+                int left = chunkCol << CHUNK_BITS;
+                switch (op) {
+                    case CellKernel.DRY_OUT, CellKernel.HEAT -> {
+                        lowDelta += kernel.dryOut(tables, chunk.species, chunk.moisture, chunk.health, chunkWidth,
+                                endRow, kernelRows, changedRows);
+                        cursors = growthImages(tables, chunk, top, left, endRow, kernelRows, changedRows, cursors);
+                        if (op == CellKernel.HEAT) {
+                            kernel.damage(tables.heat, chunk.species, chunk.health, chunkWidth, endRow, kernelRows,
+                                    changedRows);
+                        }
+                    }
+                    case CellKernel.WATER -> lowDelta += kernel.water(chunk.moisture, chunk.health, chunkWidth,
+                            endRow, kernelRows, changedRows);
+                    case CellKernel.COLD -> kernel.damage(tables.cold, chunk.species, chunk.health, chunkWidth,
+                            endRow, kernelRows, changedRows);
+                    default -> throw new IllegalArgumentException("Unknown cell operation " + op);
+                }
+                for (int r = 0; r < endRow; r++) {
+                    if (changes != null) {
+                        changes.markBits((top + r) * cols + left, changedRows[r]);
+                    }
+                    // Plants whose class changes the operation take it one at a time
+                    for (long bits = otherRows[r]; bits != 0; bits &= bits - 1) {
+                        if (cursors == null) {
+                            cursors = newCursors();
+                        }
+                        Plant plant = cursor(cursors, (top + r) * cols + left + Long.numberOfTrailingZeros(bits));
+                        switch (op) {
+                            case CellKernel.DRY_OUT -> plant.dryOut();
+                            case CellKernel.WATER -> plant.water();
+                            case CellKernel.HEAT -> {
+                                plant.dryOut();
+                                plant.applyHeatDamage(temperature);
+                            }
+                            default -> plant.applyColdDamage(temperature);
+                        }
+                    }
+                }
+            }
+        }
+        if (counters != null) {
+            counters.lowMoistureChanged(lowDelta);
+        }
+        return count;
+    }
+
+    // Pick the growth image of the dried kernel cells whose species has them, as Plant#dryOut() does last
+    private Plant[] growthImages(CellKernel.Tables tables, Chunk chunk, int top, int left, int height,
+            long[] rows, long[] changedRows, Plant[] cursors) {
+        for (int r = 0; r < height; r++) {
+            int base = r * chunkWidth;
+            for (long bits = rows[r]; bits != 0; bits &= bits - 1) {
+                int c = Long.numberOfTrailingZeros(bits);
+                int offset = base + c;
+                byte[] images = tables.growthImages[chunk.species[offset]];
+                if (images == null) {
+                    continue;
+                }
+                int moisture = chunk.moisture[offset];
+                int health = chunk.health[offset];
+                if (moisture >= 0 && moisture < CellKernel.GROWTH_LEVELS && health >= 0
+                        && health < CellKernel.GROWTH_LEVELS) {
+                    byte image = images[moisture * CellKernel.GROWTH_LEVELS + health];
+                    if (chunk.image[offset] != image) {
+                        chunk.image[offset] = image;
+                        changedRows[r] |= 1L << c;
+                    }
+                } else {
+                    // Out of the tabulated range: ask the plant
+                    if (cursors == null) {
+                        cursors = newCursors();
+                    }
+                    cursor(cursors, (top + r) * cols + left + c).updateGrowthImage();
+                }
+            }
+        }
+        return cursors;
+    }
+
+    /**
+     * Create a new plant view over a cell.
+     */
+    public Plant view(int index) {
+        return SpeciesTable.prototype(getSpecies(index)).newView(this, index);
+    }
+
+    /**
+     * Create an empty set of reusable views for {@link #cursor(Plant[], int)}.
+     */
+    public static Plant[] newCursors() {
+        return new Plant[SpeciesTable.MAX_SPECIES];
+    }
+
+    /**
+     * Move a reusable view onto a cell. One view per species is kept in the
+     * cursor array, so a full pass over the grid allocates nothing. The
+     * returned plant is only valid until the next call with the same cursors.
+     */
+    public Plant cursor(Plant[] cursors, int index) {
+        long cell = locate(index);
+        int id = speciesAt(cell);
+        Plant view = cursors[id];
+        if (view == null) {
+            view = SpeciesTable.prototype(id).newView(this, index);
+            cursors[id] = view;
+        } else {
+            view.bind(this, index, cell);
+        }
+        return view;
+    }
+}
@@ -10,8 +10,7 @@ public class Cherry extends Plant {
     }
 
     @Override
-    public void dryOut() {
-        super.dryOut();
+    protected void updateGrowthImage() {
         if (getMoistureLevel() > 60 && getHealth() > 80) {
             setImageUrl("cherry_grown.png");
         } else {
@@ -10,8 +10,7 @@ public class Corn extends Plant {
     }
 
     @Override
-    public void dryOut() {
-        super.dryOut();
+    protected void updateGrowthImage() {
         if (getMoistureLevel() > 60 && getHealth() > 80) {
             setImageUrl("corn_grown.png");
         } else if (getHealth() < 20) {
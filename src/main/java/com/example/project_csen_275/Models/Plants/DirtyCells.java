@@ -0,0 +1,100 @@
+package com.example.project_csen_275.Models.Plants;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.IntConsumer;
+
+/**
+ * Set of cells whose state changed since a consumer last drained it.
+ * <p>
+ * One bit per cell in a {@code long[]}, set with atomic OR so parallel tick
+ * bands can mark neighbouring cells that share a word. Marking an already
+ * marked cell is a plain read. Drained by a single consumer, typically the
+ * renderer, which clears each word atomically as it reads it.
+ */
+public final class DirtyCells {
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] words;
+    private final int size;
+
+    public DirtyCells(int size) {
+        this.size = size;
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Mark a cell as changed.
+     */
+    public void mark(int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        if (((long) WORDS.getOpaque(words, word) & bit) == 0) {
+            WORDS.getAndBitwiseOr(words, word, bit);
+        }
+    }
+
+    /**
+     * Mark up to 64 consecutive cells as changed.
+     *
+     * @param from First cell of the run
+     * @param bits Cells to mark, bit {@code k} for cell {@code from + k}
+     */
+    public void markBits(int from, long bits) {
+        if (bits == 0) {
+            return;
+        }
+        int word = from >>> 6;
+        int shift = from & 63;
+        orWord(word, bits << shift);
+        if (shift != 0) {
+            orWord(word + 1, bits >>> (64 - shift));
+        }
+    }
+
+    private void orWord(int word, long bits) {
+        if (bits != 0 && ((long) WORDS.getOpaque(words, word) & bits) != bits) {
+            WORDS.getAndBitwiseOr(words, word, bits);
+        }
+    }
+
+    /**
+     * Mark every cell as changed.
+     */
+    public void markAll() {
+        for (int w = 0; w < words.length; w++) {
+            int bits = Math.min(64, size - (w << 6));
+            WORDS.setRelease(words, w, bits == 64 ? -1L : (1L << bits) - 1);
+        }
+    }
+
+    public boolean isMarked(int index) {
+        return ((long) WORDS.getOpaque(words, index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * Call the action with each changed cell in index order and unmark it.
+     * Cells marked while draining are reported now or by the next drain.
+     *
+     * @return number of cells reported
+     */
+    public int drain(IntConsumer action) {
+        int count = 0;
+        for (int w = 0; w < words.length; w++) {
+            if ((long) WORDS.getOpaque(words, w) == 0) {
+                continue;
+            }
+            long bits = (long) WORDS.getAndSet(words, w, 0L);
+            while (bits != 0) {
+                action.accept((w << 6) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+                count++;
+            }
+        }
+        return count;
+    }
+}
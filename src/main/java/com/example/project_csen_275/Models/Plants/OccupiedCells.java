@@ -0,0 +1,64 @@
+package com.example.project_csen_275.Models.Plants;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Set of the cells that hold a plant, kept up to date by {@link CellStorage}
+ * whenever a cell's species changes between empty soil and a plant.
+ * <p>
+ * One bit per cell in a {@code long[]}, changed with atomic OR/AND so parallel
+ * tick bands can plant and clear cells that share a word. Walking the set with
+ * {@link #next(int, int)} skips 64 empty cells per word, so a pass over the
+ * plants costs little more than the number of plants on a mostly empty garden.
+ */
+public final class OccupiedCells {
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] words;
+
+    OccupiedCells(CellStorage cells) {
+        words = new long[(cells.size() + 63) >>> 6];
+        for (int i = 0; i < cells.size(); i++) {
+            if (cells.getSpecies(i) != SpeciesTable.EMPTY) {
+                add(i);
+            }
+        }
+    }
+
+    void add(int index) {
+        WORDS.getAndBitwiseOr(words, index >>> 6, 1L << index);
+    }
+
+    void remove(int index) {
+        WORDS.getAndBitwiseAnd(words, index >>> 6, ~(1L << index));
+    }
+
+    public boolean contains(int index) {
+        return ((long) WORDS.getOpaque(words, index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * Find the first occupied cell in a range.
+     *
+     * @param from First cell to look at
+     * @param to   End of the range, exclusive
+     * @return the cell index, or -1 if the range has no plants
+     */
+    public int next(int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int word = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long bits = (long) WORDS.getOpaque(words, word) & (-1L << from);
+        while (bits == 0) {
+            if (++word > lastWord) {
+                return -1;
+            }
+            bits = (long) WORDS.getOpaque(words, word);
+        }
+        int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+        return index < to ? index : -1;
+    }
+}
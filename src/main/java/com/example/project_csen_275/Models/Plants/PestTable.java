@@ -0,0 +1,64 @@
+package com.example.project_csen_275.Models.Plants;
+
+/**
+ * Registry of pest types. Each pest name has a compact ID, stored in
+ * {@link CellStorage} and used as the bit position in a species'
+ * {@link Species#getParasiteMask() vulnerability mask}. ID 0 means no pest.
+ * The built-in pests are registered first so their IDs are stable; any other
+ * pest name is registered when a species that is vulnerable to it is.
+ */
+public final class PestTable {
+    public static final int NONE = 0;
+    public static final int APHID = 1;
+    public static final int CATERPILLAR = 2;
+    public static final int BIRD = 3;
+    public static final int WEEVIL = 4;
+    public static final int LOCUST = 5;
+    public static final int SQUASH_BUG = 6;
+
+    private static final SymbolTable PESTS = new SymbolTable(null);
+
+    static {
+        PESTS.idOf("aphid");
+        PESTS.idOf("caterpillar");
+        PESTS.idOf("bird");
+        PESTS.idOf("weevil");
+        PESTS.idOf("locust");
+        PESTS.idOf("squashBug");
+    }
+
+    private PestTable() {
+    }
+
+    /**
+     * Get the ID of a pest name, registering it on first use. Only species
+     * register pests, which bounds the IDs by the vulnerability mask.
+     */
+    static int idOf(String pestName) {
+        return PESTS.idOf(pestName);
+    }
+
+    /**
+     * Look up the ID of a pest name without registering it, for names that
+     * come from outside the simulation.
+     *
+     * @return the ID, or {@link #NONE} if no pest of that name is registered
+     */
+    public static int find(String pestName) {
+        return Math.max(NONE, PESTS.find(pestName));
+    }
+
+    /**
+     * Get the pest name registered under an ID, null for {@link #NONE}.
+     */
+    public static String nameOf(int pestId) {
+        return PESTS.nameOf(pestId);
+    }
+
+    /**
+     * Get the number of pest IDs in use, including {@link #NONE}.
+     */
+    public static int size() {
+        return PESTS.size();
+    }
+}
@@ -1,20 +1,32 @@
 package com.example.project_csen_275.Models.Plants;
 
-public class Plant {
+/**
+ * A plant in the garden.
+ * <p>
+ * Plant state is kept in a {@link CellStorage}. A newly constructed plant owns
+ * a private single-cell storage; once it is placed into a garden it becomes a
+ * view over that garden's cell, so reads and writes go straight to the
+ * garden's primitive arrays.
+ */
+public class Plant implements Cloneable {
+    // Damage before resistance from one heat wave or frost
+    static final int HEAT_DAMAGE = 8;
+    static final int COLD_DAMAGE = 2;
+
     private final String name;
-    private int health;
-    private int moistureLevel;
-    private boolean hasPest;
-    private String pestType;
-    private int pestHealth;
-    private String imageUrl;
+    private CellStorage storage;
+    private int index;
+    // Where the cell lives in the storage, see CellStorage#locate
+    private long cell;
 
     public Plant(String name, int health, int moistureLevel, boolean hasPest, String imageUrl) {
         this.name = name;
-        this.health = health;
-        this.moistureLevel = moistureLevel;
-        this.hasPest = hasPest;
-        this.imageUrl = imageUrl;
+        this.storage = new CellStorage(1);
+        this.index = 0;
+        // A new plant never starts with a pest; hasPest() is driven by the pest type
+        storage.setHealth(0, health);
+        storage.setMoisture(0, moistureLevel);
+        storage.setImageId(0, CellStorage.IMAGES.idOf(imageUrl));
     }
 
     public Plant(String name, int health, int moistureLevel, boolean hasPest) {
@@ -33,14 +45,64 @@ public class Plant {
         this(name, 100);
     }
 
+    /**
+     * Point this plant at a cell of the given storage.
+     */
+    final void bind(CellStorage storage, int index) {
+        bind(storage, index, storage.locate(index));
+    }
+
+    /**
+     * Point this plant at a cell whose location the caller already has.
+     */
+    final void bind(CellStorage storage, int index, long cell) {
+        this.storage = storage;
+        this.index = index;
+        this.cell = cell;
+    }
+
+    final CellStorage storage() {
+        return storage;
+    }
+
+    final int index() {
+        return index;
+    }
+
+    final long cell() {
+        return cell;
+    }
+
+    /**
+     * Create a view of the same type as this plant over a cell.
+     */
+    final Plant newView(CellStorage storage, int index) {
+        try {
+            Plant view = (Plant) clone();
+            view.bind(storage, index);
+            return view;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Create an independent copy of this plant with its own storage.
+     */
+    final Plant detachedCopy() {
+        CellStorage copy = new CellStorage(1);
+        copy.copyState(copy.locate(0), storage, cell);
+        return newView(copy, 0);
+    }
+
     public void water() {
-        moistureLevel = Math.min(moistureLevel + 20, 100);
-        health = Math.min(health + 5, 100);
+        storage.setMoistureAt(index, cell, Math.min(storage.moistureAt(cell) + 20, 100));
+        storage.setHealthAt(index, cell, Math.min(storage.healthAt(cell) + 5, 100));
     }
 
     public void applyPestDamage() {
-        if (hasPest) {
-            health = Math.max(0, health - 10);
+        if (hasPest()) {
+            storage.setHealthAt(index, cell, Math.max(0, storage.healthAt(cell) - 10));
         }
     }
 
@@ -48,18 +110,31 @@ public class Plant {
      * Simulates the plant drying out, reducing moisture level and potentially causing health damage.
      * Plants with moisture level below 30% will take damage proportional to their dryness.
      * Different plants have different drought tolerance (override this method to customize).
+     * Afterwards the plant's image is updated by {@link #updateGrowthImage()}.
      */
     public void dryOut() {
         // Drain moisture by 1 per cycle
-        moistureLevel = Math.max(0, moistureLevel - 1);
-        
+        int moistureLevel = Math.max(0, storage.moistureAt(cell) - 1);
+        storage.setMoistureAt(index, cell, moistureLevel);
+
         // Plants with low moisture take damage proportional to dryness
         if (moistureLevel < 30) {
             // More damage as moisture gets lower
             int damageFactor = (30 - moistureLevel) / 10 + 1;
-            // Default drought resistance multiplier is 1.0
-            health = Math.max(0, health - (int)(damageFactor * getDroughtResistanceMultiplier()));
+            // Scaled by the species' drought resistance, precomputed per damage factor
+            int health = storage.healthAt(cell);
+            storage.setHealthAt(index, cell, Math.max(0, health - getSpecies().droughtDamage(damageFactor)));
         }
+        updateGrowthImage();
+    }
+
+    /**
+     * Updates the plant's image to its growth stage after it dries out. The
+     * image must only depend on the current moisture level and health: bulk
+     * operations on a garden look it up from a table built by calling this
+     * once for each level. By default the image never changes.
+     */
+    protected void updateGrowthImage() {
     }
     
     /**
@@ -68,10 +143,9 @@ public class Plant {
      * @return The amount of damage actually applied
      */
     public int applyHeatDamage(int temperature) {
-        // Default behavior: 8 damage for hot temperatures
-        int baseDamage = 8;
-        int actualDamage = (int)(baseDamage * getHeatResistanceMultiplier());
-        health = Math.max(0, health - actualDamage);
+        // Default behavior: 8 damage for hot temperatures, scaled by the species' heat resistance
+        int actualDamage = getSpecies().heatDamage();
+        storage.setHealthAt(index, cell, Math.max(0, storage.healthAt(cell) - actualDamage));
         return actualDamage;
     }
     
@@ -81,28 +155,30 @@ public class Plant {
      * @param temperature The current temperature in °F
      */
     public void applyColdDamage(int temperature) {
-        // Default behavior: 2 damage for cold temperatures
-        int baseDamage = 2;
-        int actualDamage = (int)(baseDamage * getColdResistanceMultiplier());
-        health = Math.max(0, health - actualDamage);
+        // Default behavior: 2 damage for cold temperatures, scaled by the species' cold resistance
+        int actualDamage = getSpecies().coldDamage();
+        storage.setHealthAt(index, cell, Math.max(0, storage.healthAt(cell) - actualDamage));
     }
     
     /**
-     * Gets the plant's resistance multiplier to drought (1.0 is normal, lower is more resistant)
+     * Gets the plant's resistance multiplier to drought (1.0 is normal, lower is more resistant).
+     * Read once when the species is registered, see {@link Species}.
      */
     protected double getDroughtResistanceMultiplier() {
         return 1.0; // Default multiplier
     }
     
     /**
-     * Gets the plant's resistance multiplier to heat (1.0 is normal, lower is more resistant)
+     * Gets the plant's resistance multiplier to heat (1.0 is normal, lower is more resistant).
+     * Read once when the species is registered, see {@link Species}.
      */
     protected double getHeatResistanceMultiplier() {
         return 1.0; // Default multiplier
     }
     
     /**
-     * Gets the plant's resistance multiplier to cold (1.0 is normal, lower is more resistant)
+     * Gets the plant's resistance multiplier to cold (1.0 is normal, lower is more resistant).
+     * Read once when the species is registered, see {@link Species}.
      */
     protected double getColdResistanceMultiplier() {
         return 1.0; // Default multiplier
@@ -112,21 +188,33 @@ public class Plant {
         return name;
     }
 
+    /**
+     * Get the shared descriptor of this plant's species.
+     */
+    public Species getSpecies() {
+        int id = storage.speciesAt(cell);
+        // A cell of empty soil is always viewed as NoPlant, so anything else here is a plant not yet in a garden
+        if (id == SpeciesTable.EMPTY && !(this instanceof NoPlant)) {
+            id = SpeciesTable.idOf(this);
+        }
+        return SpeciesTable.get(id);
+    }
+
     public int getHealth() {
-        return health;
+        return storage.healthAt(cell);
     }
 
     public int getMoistureLevel() {
-        return moistureLevel;
+        return storage.moistureAt(cell);
     }
 
     public boolean hasPest() {
-        return pestType != null && !pestType.isEmpty();
+        return storage.pestIdAt(cell) != 0;
     }
 
     public void setHasPest(boolean hasPest) {
         if (!hasPest) {
-            this.pestType = null;
+            storage.setPestIdAt(index, cell, 0);
         }
     }
 
@@ -134,51 +222,75 @@ public class Plant {
      * Gets the specific pest type infesting this plant.
      */
     public String getPestType() {
-        return pestType;
+        return PestTable.nameOf(storage.pestIdAt(cell));
     }
 
     /**
      * Sets the pest type for this plant. Passing null or empty clears the pest.
+     *
+     * @throws IllegalArgumentException if no pest of that name is registered
      */
     public void setPestType(String pestType) {
-        this.pestType = pestType;
-        this.hasPest = (pestType != null && !pestType.isEmpty());
+        boolean hasPest = (pestType != null && !pestType.isEmpty());
+        int pestId = hasPest ? PestTable.find(pestType) : PestTable.NONE;
+        if (hasPest && pestId == PestTable.NONE) {
+            throw new IllegalArgumentException("Unknown pest: " + pestType);
+        }
+        storage.setPestIdAt(index, cell, pestId);
         // Initialize pest health when setting a new pest
         if (hasPest) {
-            this.pestHealth = 20;
+            storage.setPestHealthAt(index, cell, 20);
         } else {
-            this.pestHealth = 0;
+            storage.setPestHealthAt(index, cell, 0);
         }
     }
+    /**
+     * Sets the pest infesting this plant by its ID (see {@link PestTable}).
+     * Passing 0 clears the pest.
+     */
+    public void setPestId(int pestId) {
+        storage.setPestIdAt(index, cell, pestId);
+        storage.setPestHealthAt(index, cell, pestId != 0 ? 20 : 0);
+    }
     /**
      * Gets current pest health.
      */
     public int getPestHealth() {
-        return pestHealth;
+        return storage.pestHealthAt(cell);
     }
     /**
      * Sets current pest health.
      */
     public void setPestHealth(int health) {
-        this.pestHealth = health;
+        storage.setPestHealthAt(index, cell, health);
         // Clear pest if health drops to zero
         if (health <= 0) {
-            this.pestType = null;
-            this.hasPest = false;
+            storage.setPestIdAt(index, cell, 0);
         }
     }
 
     public String getImageUrl() {
-        return imageUrl;
+        return CellStorage.IMAGES.nameOf(storage.imageIdAt(cell));
     }
 
+    /**
+     * Sets the plant's image to one of its species' images.
+     *
+     * @throws IllegalArgumentException if the species does not declare the image
+     */
     public void setImageUrl(String imageUrl) {
-        this.imageUrl = imageUrl;
+        // The species first: its images are registered with it
+        Species species = getSpecies();
+        int imageId = CellStorage.IMAGES.find(imageUrl);
+        if (imageId < 0 || !species.hasImage(imageId)) {
+            throw new IllegalArgumentException(getName() + " has no image " + imageUrl);
+        }
+        storage.setImageIdAt(index, cell, imageId);
     }
     /**
      * Sets the plant's health directly (0-100).
      */
     public void setHealth(int health) {
-        this.health = health;
+        storage.setHealthAt(index, cell, health);
     }
 }
\ No newline at end of file
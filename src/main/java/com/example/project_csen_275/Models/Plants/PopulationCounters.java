@@ -0,0 +1,118 @@
+package com.example.project_csen_275.Models.Plants;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Running population counts of a {@link CellStorage}: plants per species,
+ * infested cells and thirsty plants. The storage adjusts them on every state
+ * transition, so reading them never scans the grid.
+ * <p>
+ * Counts only change when a cell crosses a boundary (a plant is planted or
+ * dies, a pest arrives or leaves, moisture crosses {@value #LOW_MOISTURE}),
+ * which is rare next to the per-tick writes, so atomic updates from parallel
+ * tick bands cost little. A snapshot taken while a tick runs may mix counts
+ * from before and after some of its cells.
+ */
+public final class PopulationCounters {
+    /**
+     * Moisture below which a plant counts as thirsty; plants start taking
+     * drought damage below this level.
+     */
+    public static final int LOW_MOISTURE = 30;
+
+    private final int size;
+    private final AtomicIntegerArray species = new AtomicIntegerArray(SpeciesTable.MAX_SPECIES);
+    private final AtomicInteger living = new AtomicInteger();
+    private final AtomicInteger infested = new AtomicInteger();
+    private final AtomicInteger lowMoisture = new AtomicInteger();
+
+    PopulationCounters(CellStorage cells) {
+        size = cells.size();
+        for (int i = 0; i < size; i++) {
+            add(cells.getSpecies(i), cells.getMoisture(i), cells.getPestId(i));
+        }
+    }
+
+    /**
+     * Count a cell's current state.
+     */
+    void add(int speciesId, int moisture, int pestId) {
+        update(speciesId, moisture, pestId, 1);
+    }
+
+    /**
+     * Stop counting a cell's state before it is replaced.
+     */
+    void remove(int speciesId, int moisture, int pestId) {
+        update(speciesId, moisture, pestId, -1);
+    }
+
+    private void update(int speciesId, int moisture, int pestId, int delta) {
+        species.addAndGet(speciesId, delta);
+        if (speciesId != SpeciesTable.EMPTY) {
+            living.addAndGet(delta);
+            if (moisture < LOW_MOISTURE) {
+                lowMoisture.addAndGet(delta);
+            }
+        }
+        if (pestId != 0) {
+            infested.addAndGet(delta);
+        }
+    }
+
+    /**
+     * Record a moisture change of a cell.
+     */
+    void moistureChanged(int speciesId, int before, int after) {
+        if (speciesId != SpeciesTable.EMPTY && (before < LOW_MOISTURE) != (after < LOW_MOISTURE)) {
+            lowMoisture.addAndGet(after < LOW_MOISTURE ? 1 : -1);
+        }
+    }
+
+    /**
+     * Record a bulk operation's net change in the number of plants below
+     * {@value #LOW_MOISTURE} moisture.
+     */
+    void lowMoistureChanged(int delta) {
+        if (delta != 0) {
+            lowMoisture.addAndGet(delta);
+        }
+    }
+
+    /**
+     * Record a pest change of a cell.
+     */
+    void pestChanged(int before, int after) {
+        if ((before != 0) != (after != 0)) {
+            infested.addAndGet(after != 0 ? 1 : -1);
+        }
+    }
+
+    public int getLiving() {
+        return living.get();
+    }
+
+    public int getEmpty() {
+        return size - living.get();
+    }
+
+    /**
+     * Get the number of cells of a species.
+     */
+    public int getCount(int speciesId) {
+        return species.get(speciesId);
+    }
+
+    /**
+     * Get a copy of the current counts.
+     */
+    public PopulationSnapshot snapshot() {
+        int[] counts = new int[SpeciesTable.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = species.get(i);
+        }
+        int live = living.get();
+        return new PopulationSnapshot(live, size - live, infested.get(), lowMoisture.get(), counts);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.project_csen_275.Models.Plants;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Population counts of a garden at one moment, see {@link PopulationCounters}.
+ *
+ * @param living        cells with a plant
+ * @param empty         cells of empty soil
+ * @param infested      cells with a pest
+ * @param lowMoisture   plants with moisture below {@link PopulationCounters#LOW_MOISTURE}
+ * @param speciesCounts cells per species ID, empty soil at index 0
+ */
+public record PopulationSnapshot(int living, int empty, int infested, int lowMoisture, int[] speciesCounts) {
+
+    /**
+     * Get the number of cells of a species.
+     */
+    public int countOf(int speciesId) {
+        return speciesId < speciesCounts.length ? speciesCounts[speciesId] : 0;
+    }
+
+    /**
+     * Get the counts by species display name, in species ID order, leaving out
+     * species with no cells.
+     */
+    public Map<String, Integer> byName() {
+        Map<String, Integer> stats = new LinkedHashMap<>();
+        for (int species = 0; species < speciesCounts.length; species++) {
+            if (speciesCounts[species] > 0) {
+                stats.merge(SpeciesTable.nameOf(species), speciesCounts[species], Integer::sum);
+            }
+        }
+        return stats;
+    }
+}
@@ -10,8 +10,7 @@ public class Pumpkin extends Plant {
     }
 
     @Override
-    public void dryOut() {
-        super.dryOut();
+    protected void updateGrowthImage() {
         if (getMoistureLevel() > 60 && getHealth() > 80) {
             setImageUrl("pumpkin_full_grow.png");
         } else {
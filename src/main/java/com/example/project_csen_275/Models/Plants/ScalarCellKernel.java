@@ -0,0 +1,150 @@
+package com.example.project_csen_275.Models.Plants;
+
+/**
+ * Cell kernel that handles one cell at a time, and the reference the vector
+ * kernel is checked against. Also finishes the columns of a row that do not
+ * fill a whole vector.
+ */
+final class ScalarCellKernel extends CellKernel {
+
+    @Override
+    int lanes() {
+        return 1;
+    }
+
+    @Override
+    void select(Tables tables, int op, byte[] species, short[] health, int width, int height,
+            boolean healthyOnly, long[] kernelRows, long[] otherRows) {
+        short[] eligible = tables.eligible[op];
+        for (int r = 0; r < height; r++) {
+            int base = r * width;
+            long inKernel = 0;
+            long other = 0;
+            for (int c = 0; c < width; c++) {
+                int sp = species[base + c] & 0xFF;
+                if (sp == SpeciesTable.EMPTY || (healthyOnly && health[base + c] <= 0)) {
+                    continue;
+                }
+                if (sp < MAX_SPECIES && eligible[sp] != 0) {
+                    inKernel |= 1L << c;
+                } else {
+                    other |= 1L << c;
+                }
+            }
+            kernelRows[r] = inKernel;
+            otherRows[r] = other;
+        }
+    }
+
+    @Override
+    int dryOut(Tables tables, byte[] species, short[] moisture, short[] health, int width, int height,
+            long[] rows, long[] changedRows) {
+        int lowDelta = 0;
+        for (int r = 0; r < height; r++) {
+            lowDelta += dryOutRow(tables, species, moisture, health, r * width, rows[r], changedRows, r);
+        }
+        return lowDelta;
+    }
+
+    /**
+     * Dry out the cells of one row.
+     *
+     * @param base Offset of the row's first cell
+     * @param bits Columns to dry out
+     */
+    int dryOutRow(Tables tables, byte[] species, short[] moisture, short[] health, int base, long bits,
+            long[] changedRows, int row) {
+        int lowDelta = 0;
+        long changed = 0;
+        for (; bits != 0; bits &= bits - 1) {
+            int c = Long.numberOfTrailingZeros(bits);
+            int i = base + c;
+            int m = moisture[i];
+            int h = health[i];
+            int dried = driedMoisture(m);
+            int damaged = h;
+            if (dried < PopulationCounters.LOW_MOISTURE) {
+                damaged = damaged(h, tables.drought[droughtFactor(dried)][species[i]]);
+            }
+            moisture[i] = (short) dried;
+            health[i] = (short) damaged;
+            if (dried != m || damaged != h) {
+                changed |= 1L << c;
+            }
+            lowDelta += lowMoistureDelta(m, dried);
+        }
+        changedRows[row] |= changed;
+        return lowDelta;
+    }
+
+    @Override
+    int water(short[] moisture, short[] health, int width, int height, long[] rows, long[] changedRows) {
+        int lowDelta = 0;
+        for (int r = 0; r < height; r++) {
+            lowDelta += waterRow(moisture, health, r * width, rows[r], changedRows, r);
+        }
+        return lowDelta;
+    }
+
+    /**
+     * Water the cells of one row.
+     *
+     * @param base Offset of the row's first cell
+     * @param bits Columns to water
+     */
+    int waterRow(short[] moisture, short[] health, int base, long bits, long[] changedRows, int row) {
+        int lowDelta = 0;
+        long changed = 0;
+        for (; bits != 0; bits &= bits - 1) {
+            int c = Long.numberOfTrailingZeros(bits);
+            int i = base + c;
+            int m = moisture[i];
+            int h = health[i];
+            // min(m + 20, 100) and min(h + 5, 100)
+            int watered = Math.min(m, 80) + 20;
+            int healed = (short) (Math.min(h, 95) + 5);
+            moisture[i] = (short) watered;
+            health[i] = (short) healed;
+            if (watered != m || healed != h) {
+                changed |= 1L << c;
+            }
+            lowDelta += lowMoistureDelta(m, watered);
+        }
+        changedRows[row] |= changed;
+        return lowDelta;
+    }
+
+    @Override
+    void damage(short[] damage, byte[] species, short[] health, int width, int height, long[] rows,
+            long[] changedRows) {
+        for (int r = 0; r < height; r++) {
+            damageRow(damage, species, health, r * width, rows[r], changedRows, r);
+        }
+    }
+
+    /**
+     * Damage the cells of one row.
+     *
+     * @param base Offset of the row's first cell
+     * @param bits Columns to damage
+     */
+    void damageRow(short[] damage, byte[] species, short[] health, int base, long bits, long[] changedRows,
+            int row) {
+        long changed = 0;
+        for (; bits != 0; bits &= bits - 1) {
+            int c = Long.numberOfTrailingZeros(bits);
+            int i = base + c;
+            int h = health[i];
+            int damaged = damaged(h, damage[species[i]]);
+            health[i] = (short) damaged;
+            if (damaged != h) {
+                changed |= 1L << c;
+            }
+        }
+        changedRows[row] |= changed;
+    }
+
+    private static int lowMoistureDelta(int before, int after) {
+        return (after < PopulationCounters.LOW_MOISTURE ? 1 : 0) - (before < PopulationCounters.LOW_MOISTURE ? 1 : 0);
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.project_csen_275.Models.Plants;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Immutable description of a plant species, shared by every plant of that
+ * species. Obtained from {@link SpeciesTable}.
+ * <p>
+ * The resistance multipliers are read from the species' plant class when it is
+ * registered and turned into integer damage tables: drought damage per damage
+ * factor, heat and cold damage per event. Each entry is the
+ * {@code (int) (base * multiplier)} a plant used to compute on every call, so
+ * the rounding is unchanged while {@link Plant} and {@link CellKernel} take
+ * damage with a table load instead of a virtual call and floating point. A
+ * multiplier must therefore not depend on the plant's state.
+ * Parasites are kept both as a list and as a bitmask over pest IDs (see
+ * {@link PestTable}), so checking a vulnerability is a single bit
+ * test.
+ * <p>
+ * The descriptor also records which bulk operations {@link CellKernel} may run
+ * for the species' plants: those whose plant class inherits the operation
+ * from {@link Plant} unchanged, so the kernel's arithmetic is the plant's.
+ */
+public final class Species {
+    // Pest IDs that fit in the vulnerability mask
+    static final int MAX_PEST_ID = 63;
+    // Drought damage factor of a bone-dry plant; Plant.dryOut() uses (30 - moisture) / 10 + 1
+    static final int MAX_DROUGHT_FACTOR = 4;
+
+    private final int id;
+    private final String key;
+    private final Supplier<? extends Plant> factory;
+    private final Plant prototype;
+    private final double droughtMultiplier;
+    private final double heatMultiplier;
+    private final double coldMultiplier;
+    private final List<String> images;
+    // IDs of the images in CellStorage.IMAGES, registered with the species
+    private final int[] imageIds;
+    private final int waterRequirement;
+    private final List<String> parasites;
+    private final int[] parasiteIds;
+    private final long parasiteMask;
+    // Damage after resistance, (int) (base * multiplier); drought by damage factor 1-4
+    private final int[] droughtDamage = new int[MAX_DROUGHT_FACTOR + 1];
+    private final int heatDamage;
+    private final int coldDamage;
+    // CellKernel operations that may run for this species, as bits 1 << op
+    private final int kernelOps;
+    // Whether the plant class picks a growth-stage image after drying out
+    private final boolean growthImages;
+
+    Species(int id, String key, Supplier<? extends Plant> factory, Plant prototype, int waterRequirement,
+            List<String> images, List<String> parasites) {
+        this.id = id;
+        this.key = key;
+        this.factory = factory;
+        this.prototype = prototype;
+        this.droughtMultiplier = prototype.getDroughtResistanceMultiplier();
+        this.heatMultiplier = prototype.getHeatResistanceMultiplier();
+        this.coldMultiplier = prototype.getColdResistanceMultiplier();
+        this.images = List.copyOf(images);
+        this.imageIds = this.images.stream().mapToInt(CellStorage.IMAGES::idOf).toArray();
+        this.waterRequirement = waterRequirement;
+        this.parasites = List.copyOf(parasites);
+        this.parasiteIds = new int[parasites.size()];
+        long mask = 0;
+        for (int i = 0; i < parasiteIds.length; i++) {
+            int pestId = PestTable.idOf(parasites.get(i));
+            if (pestId > MAX_PEST_ID) {
+                throw new IllegalStateException("Too many pest types for the vulnerability mask (max "
+                        + MAX_PEST_ID + "): " + parasites.get(i));
+            }
+            parasiteIds[i] = pestId;
+            mask |= 1L << pestId;
+        }
+        this.parasiteMask = mask;
+
+        for (int factor = 1; factor <= MAX_DROUGHT_FACTOR; factor++) {
+            droughtDamage[factor] = (int) (factor * droughtMultiplier);
+        }
+        heatDamage = (int) (Plant.HEAT_DAMAGE * heatMultiplier);
+        coldDamage = (int) (Plant.COLD_DAMAGE * coldMultiplier);
+        Class<?> type = prototype.getClass();
+        int ops = 0;
+        if (id != SpeciesTable.EMPTY && id < CellKernel.MAX_SPECIES) {
+            boolean dries = inherits(type, "dryOut") && fitsLane(droughtDamage);
+            if (dries) {
+                ops |= 1 << CellKernel.DRY_OUT;
+            }
+            if (inherits(type, "water")) {
+                ops |= 1 << CellKernel.WATER;
+            }
+            if (dries && inherits(type, "applyHeatDamage", int.class) && fitsLane(heatDamage)) {
+                ops |= 1 << CellKernel.HEAT;
+            }
+            if (inherits(type, "applyColdDamage", int.class) && fitsLane(coldDamage)) {
+                ops |= 1 << CellKernel.COLD;
+            }
+        }
+        this.kernelOps = ops;
+        this.growthImages = !inherits(type, "updateGrowthImage");
+    }
+
+    // Whether a plant class uses Plant's own version of a method
+    private static boolean inherits(Class<?> type, String name, Class<?>... parameters) {
+        for (Class<?> c = type; c != Plant.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, parameters);
+                return false;
+            } catch (NoSuchMethodException e) {
+                // Not declared here; look at the superclass
+            }
+        }
+        return true;
+    }
+
+    // Whether damage values fit the kernel's 16-bit lanes
+    private static boolean fitsLane(int... damage) {
+        for (int d : damage) {
+            if (d != (short) d) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the compact species ID stored in {@link CellStorage}.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Get the short name used in menus and garden config files, e.g. "Carrot" or "Empty".
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Get the display name of the species' plants.
+     */
+    public String getName() {
+        return prototype.getName();
+    }
+
+    /**
+     * Create a new, detached plant of this species.
+     */
+    public Plant create() {
+        return factory.get();
+    }
+
+    Plant prototype() {
+        return prototype;
+    }
+
+    public double getDroughtResistanceMultiplier() {
+        return droughtMultiplier;
+    }
+
+    public double getHeatResistanceMultiplier() {
+        return heatMultiplier;
+    }
+
+    public double getColdResistanceMultiplier() {
+        return coldMultiplier;
+    }
+
+    /**
+     * Get the health a drying plant of this species loses at a drought damage
+     * factor, {@code (int) (factor * multiplier)}.
+     *
+     * @param factor 1 (just below 30 moisture) to 4 (bone dry), see {@link Plant#dryOut()}
+     */
+    public int droughtDamage(int factor) {
+        return droughtDamage[factor];
+    }
+
+    /**
+     * Get the health a plant of this species loses in a heat wave,
+     * {@code (int) (8 * multiplier)}.
+     */
+    public int heatDamage() {
+        return heatDamage;
+    }
+
+    /**
+     * Get the health a plant of this species loses in a frost,
+     * {@code (int) (2 * multiplier)}.
+     */
+    public int coldDamage() {
+        return coldDamage;
+    }
+
+    /**
+     * Check whether {@link CellKernel} may run an operation for this species.
+     */
+    boolean inKernel(int op) {
+        return (kernelOps & (1 << op)) != 0;
+    }
+
+    boolean hasGrowthImages() {
+        return growthImages;
+    }
+
+    /**
+     * Get the image a new plant of this species starts with.
+     */
+    public String getImage() {
+        return images.getFirst();
+    }
+
+    /**
+     * Get every image the species' plants can show, the starting image first.
+     */
+    public List<String> getImages() {
+        return images;
+    }
+
+    /**
+     * Check whether an image ID is one of the species' images.
+     */
+    boolean hasImage(int imageId) {
+        for (int id : imageIds) {
+            if (id == imageId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get how much water the species needs per watering.
+     */
+    public int getWaterRequirement() {
+        return waterRequirement;
+    }
+
+    /**
+     * Get the names of the pests that can infest this species.
+     */
+    public List<String> getParasites() {
+        return parasites;
+    }
+
+    public int getParasiteCount() {
+        return parasiteIds.length;
+    }
+
+    /**
+     * Get the pest ID of one of the species' parasites.
+     *
+     * @param i Position in {@link #getParasites()}
+     */
+    public int getParasiteId(int i) {
+        return parasiteIds[i];
+    }
+
+    /**
+     * Get the species' parasites as a bitmask with bit {@code pestId} set for each.
+     */
+    public long getParasiteMask() {
+        return parasiteMask;
+    }
+
+    /**
+     * Check whether a pest can infest this species.
+     */
+    public boolean isVulnerableTo(int pestId) {
+        return pestId > 0 && pestId <= MAX_PEST_ID && (parasiteMask & (1L << pestId)) != 0;
+    }
+}
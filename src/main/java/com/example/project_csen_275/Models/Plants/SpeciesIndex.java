@@ -0,0 +1,95 @@
+package com.example.project_csen_275.Models.Plants;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Inverted index from species to the cells it occupies, kept up to date by
+ * {@link CellStorage} whenever a cell's species changes. Empty soil is not
+ * indexed.
+ * <p>
+ * Each species has a dense list of cell indices, and every cell remembers its
+ * position in its list, so adding or removing a cell is O(1) and visiting a
+ * species costs only as much as its number of plants. The positions are kept
+ * in the storage's chunks, so they take memory only where cells are planted.
+ * The order of the cells
+ * in a list is unspecified. Updates may come from parallel tick bands, so
+ * access is synchronized; species only change on planting, death and
+ * replanting, which keeps contention low.
+ */
+public final class SpeciesIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final CellStorage cells;
+    private final int[][] members = new int[SpeciesTable.MAX_SPECIES][];
+    private final int[] counts = new int[SpeciesTable.MAX_SPECIES];
+
+    SpeciesIndex(CellStorage cells) {
+        this.cells = cells;
+        for (int i = 0; i < cells.size(); i++) {
+            int species = cells.getSpecies(i);
+            if (species != SpeciesTable.EMPTY) {
+                add(i, species);
+            }
+        }
+    }
+
+    /**
+     * Record that a cell changed species.
+     */
+    synchronized void move(int cell, int from, int to) {
+        if (from != SpeciesTable.EMPTY) {
+            remove(cell, from);
+        }
+        if (to != SpeciesTable.EMPTY) {
+            add(cell, to);
+        }
+    }
+
+    private void add(int cell, int species) {
+        int[] list = members[species];
+        int n = counts[species];
+        if (list == null) {
+            list = new int[INITIAL_CAPACITY];
+            members[species] = list;
+        } else if (n == list.length) {
+            list = Arrays.copyOf(list, n * 2);
+            members[species] = list;
+        }
+        list[n] = cell;
+        cells.setIndexSlot(cell, n);
+        counts[species] = n + 1;
+    }
+
+    private void remove(int cell, int species) {
+        // Move the species' last cell into the freed position
+        int[] list = members[species];
+        int pos = cells.getIndexSlot(cell);
+        int last = --counts[species];
+        int moved = list[last];
+        list[pos] = moved;
+        cells.setIndexSlot(moved, pos);
+    }
+
+    /**
+     * Get the number of cells occupied by a species.
+     */
+    public synchronized int count(int species) {
+        return counts[species];
+    }
+
+    /**
+     * Visit every cell occupied by a species. The action must not change the
+     * species of any cell.
+     *
+     * @return number of cells visited
+     */
+    public synchronized int forEach(int species, IntConsumer action) {
+        int[] list = members[species];
+        int n = counts[species];
+        for (int i = 0; i < n; i++) {
+            action.accept(list[i]);
+        }
+        return n;
+    }
+}
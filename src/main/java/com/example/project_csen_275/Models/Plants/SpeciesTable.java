@@ -0,0 +1,148 @@
+package com.example.project_csen_275.Models.Plants;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of plant species. Each species has a compact ID, stored in
+ * {@link CellStorage}, and a shared {@link Species} descriptor with a factory
+ * for new plants. The built-in species are registered first so their IDs are
+ * stable; any other plant class or custom-named {@link Plant} is registered on
+ * first use.
+ */
+public final class SpeciesTable {
+    public static final int EMPTY = 0;
+    public static final int CARROT = 1;
+    public static final int CHERRY = 2;
+    public static final int CORN = 3;
+    public static final int PUMPKIN = 4;
+    public static final int SUNFLOWER = 5;
+
+    /**
+     * Number of built-in species that are real plants, see {@link #plantable(int)}
+     */
+    public static final int PLANTABLE_COUNT = 5;
+
+    static final int MAX_SPECIES = 256;
+
+    private record Key(Class<?> type, String name) {
+    }
+
+    private static final ConcurrentHashMap<Key, Integer> ids = new ConcurrentHashMap<>();
+    // Species by config key and by display name
+    private static final ConcurrentHashMap<String, Species> byName = new ConcurrentHashMap<>();
+    private static volatile Species[] species = new Species[0];
+
+    static {
+        define("Empty", NoPlant::new, 0, List.of("tile_0000.png"), List.of());
+        define("Carrot", Carrot::new, 10, List.of("carrot_mid.png", "carrot_grown.png", "carrot_radish_leaf.png"),
+                List.of("aphid", "caterpillar"));
+        define("Cherry", Cherry::new, 12, List.of("cherry_small.png", "cherry_grown.png"), List.of("bird", "weevil"));
+        define("Corn", Corn::new, 15, List.of("stem.png", "corn_grown.png", "dead_steam.png"), List.of("locust"));
+        define("Pumpkin", Pumpkin::new, 20, List.of("pumpkin_small.png", "pumpkin_full_grow.png", "dead_plant.png"),
+                List.of("squashBug"));
+        define("Sunflower", Sunflower::new, 8, List.of("sunflower.png"), List.of("aphid"));
+    }
+
+    private SpeciesTable() {
+    }
+
+    /**
+     * Get the species ID of a plant, registering its type on first use.
+     */
+    public static int idOf(Plant plant) {
+        Integer id = ids.get(new Key(plant.getClass(), plant.getName()));
+        return id != null ? id : register(plant);
+    }
+
+    /**
+     * Get the descriptor of a species.
+     */
+    public static Species get(int speciesId) {
+        return species[speciesId];
+    }
+
+    /**
+     * Find a species by its config key (e.g. "Carrot", "Empty") or display name.
+     *
+     * @return the species, or null if none is registered under that name
+     */
+    public static Species byName(String name) {
+        return name != null ? byName.get(name) : null;
+    }
+
+    /**
+     * Get the number of registered species, including empty soil.
+     */
+    public static int size() {
+        return species.length;
+    }
+
+    /**
+     * Get the built-in species in ID order, starting with empty soil.
+     */
+    public static List<Species> builtIn() {
+        return List.of(Arrays.copyOf(species, PLANTABLE_COUNT + 1));
+    }
+
+    /**
+     * Get the ID of the n-th built-in real plant.
+     *
+     * @param n 0 to {@link #PLANTABLE_COUNT} - 1
+     */
+    public static int plantable(int n) {
+        return CARROT + n;
+    }
+
+    /**
+     * Get the display name of a species.
+     */
+    public static String nameOf(int speciesId) {
+        return species[speciesId].getName();
+    }
+
+    /**
+     * Create a new, detached plant of a species.
+     */
+    public static Plant create(int speciesId) {
+        return species[speciesId].create();
+    }
+
+    static Plant prototype(int speciesId) {
+        return species[speciesId].prototype();
+    }
+
+    private static synchronized void define(String key, Supplier<? extends Plant> factory, int waterRequirement,
+            List<String> images, List<String> parasites) {
+        Plant prototype = factory.get();
+        add(new Key(prototype.getClass(), prototype.getName()),
+                new Species(species.length, key, factory, prototype, waterRequirement, images, parasites));
+    }
+
+    private static synchronized int register(Plant plant) {
+        Key key = new Key(plant.getClass(), plant.getName());
+        Integer existing = ids.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        Plant prototype = plant.detachedCopy();
+        return add(key, new Species(species.length, plant.getName(), prototype::detachedCopy, prototype, 0,
+                List.of(plant.getImageUrl()), List.of()));
+    }
+
+    private static int add(Key key, Species descriptor) {
+        int id = descriptor.getId();
+        if (id >= MAX_SPECIES) {
+            throw new IllegalStateException("Too many plant species (max " + MAX_SPECIES + ")");
+        }
+        Species[] grown = Arrays.copyOf(species, id + 1);
+        grown[id] = descriptor;
+        species = grown;
+        ids.put(key, id);
+        byName.putIfAbsent(descriptor.getKey(), descriptor);
+        byName.putIfAbsent(descriptor.getName(), descriptor);
+        return id;
+    }
+}
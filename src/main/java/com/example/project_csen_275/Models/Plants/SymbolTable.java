@@ -0,0 +1,71 @@
+package com.example.project_csen_275.Models.Plants;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns strings such as pest names and image file names into small numeric
+ * IDs so they can be kept in a {@code byte[]} column of {@link CellStorage}.
+ * ID 0 is reserved for the table's default entry.
+ */
+final class SymbolTable {
+    private static final int MAX_SYMBOLS = 256;
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] names;
+
+    SymbolTable(String defaultEntry) {
+        names = new String[] { defaultEntry };
+        if (defaultEntry != null) {
+            ids.put(defaultEntry, 0);
+        }
+    }
+
+    /**
+     * Get the ID of a symbol, registering it on first use.
+     */
+    int idOf(String symbol) {
+        Integer id = ids.get(symbol);
+        return id != null ? id : register(symbol);
+    }
+
+    /**
+     * Get the ID of a symbol without registering it.
+     *
+     * @return the ID, or -1 if the symbol is not registered
+     */
+    int find(String symbol) {
+        Integer id = symbol != null ? ids.get(symbol) : null;
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Get the symbol registered under an ID.
+     */
+    String nameOf(int id) {
+        return names[id];
+    }
+
+    /**
+     * Get the number of IDs in use, including 0.
+     */
+    int size() {
+        return names.length;
+    }
+
+    private synchronized int register(String symbol) {
+        Integer existing = ids.get(symbol);
+        if (existing != null) {
+            return existing;
+        }
+        int id = names.length;
+        if (id >= MAX_SYMBOLS) {
+            throw new IllegalStateException("Too many distinct symbols (max " + MAX_SYMBOLS + "): " + symbol);
+        }
+        String[] grown = Arrays.copyOf(names, id + 1);
+        grown[id] = symbol;
+        names = grown;
+        ids.put(symbol, id);
+        return id;
+    }
+}
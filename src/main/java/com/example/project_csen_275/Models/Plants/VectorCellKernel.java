@@ -0,0 +1,197 @@
+package com.example.project_csen_275.Models.Plants;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Cell kernel on the incubating Vector API, processing as many cells per step
+ * as the CPU's preferred vector holds 16-bit lanes. Only loaded through
+ * {@link CellKernel#preferred()} when the {@code jdk.incubator.vector} module
+ * is present.
+ * <p>
+ * Species IDs are widened from bytes to 16-bit lanes and used as indices into
+ * one vector of each per-species table, which is why kernel species must be
+ * below {@value CellKernel#MAX_SPECIES}. The lane bitmaps become vector masks,
+ * so loads and stores are masked and cells outside the selection keep their
+ * values. Columns past the last whole vector of a row go to the scalar kernel.
+ */
+final class VectorCellKernel extends CellKernel {
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+    // Bytes with the same lane count, for loading species IDs
+    private static final VectorSpecies<Byte> BYTES =
+            VectorSpecies.of(byte.class, VectorShape.forBitSize(SHORTS.vectorBitSize() / 2));
+    private static final int LANES = SHORTS.length();
+    private static final short LOW = PopulationCounters.LOW_MOISTURE;
+
+    @Override
+    int lanes() {
+        return LANES;
+    }
+
+    // Species IDs of a vector of cells as 16-bit lanes
+    private static ShortVector speciesAt(byte[] species, int i) {
+        return ((ShortVector) ByteVector.fromArray(BYTES, species, i).convertShape(VectorOperators.B2S, SHORTS, 0))
+                .and((short) 0xFF);
+    }
+
+    // Look up a per-species table for each lane; only meaningful for species below MAX_SPECIES
+    private static ShortVector lookup(ShortVector table, ShortVector species) {
+        return species.and((short) (MAX_SPECIES - 1)).selectFrom(table);
+    }
+
+    private static ShortVector table(short[] values) {
+        return ShortVector.fromArray(SHORTS, values, 0);
+    }
+
+    @Override
+    void select(Tables tables, int op, byte[] species, short[] health, int width, int height,
+            boolean healthyOnly, long[] kernelRows, long[] otherRows) {
+        ShortVector eligible = table(tables.eligible[op]);
+        int whole = width - width % LANES;
+        for (int r = 0; r < height; r++) {
+            int base = r * width;
+            long inKernel = 0;
+            long other = 0;
+            for (int c = 0; c < whole; c += LANES) {
+                ShortVector sp = speciesAt(species, base + c);
+                VectorMask<Short> plants = sp.compare(VectorOperators.NE, (short) SpeciesTable.EMPTY);
+                if (healthyOnly) {
+                    plants = plants.and(ShortVector.fromArray(SHORTS, health, base + c)
+                            .compare(VectorOperators.GT, (short) 0));
+                }
+                VectorMask<Short> handled = lookup(eligible, sp).compare(VectorOperators.NE, (short) 0)
+                        .and(sp.compare(VectorOperators.LT, (short) MAX_SPECIES));
+                inKernel |= plants.and(handled).toLong() << c;
+                other |= plants.andNot(handled).toLong() << c;
+            }
+            for (int c = whole; c < width; c++) {
+                int sp = species[base + c] & 0xFF;
+                if (sp == SpeciesTable.EMPTY || (healthyOnly && health[base + c] <= 0)) {
+                    continue;
+                }
+                if (sp < MAX_SPECIES && tables.eligible[op][sp] != 0) {
+                    inKernel |= 1L << c;
+                } else {
+                    other |= 1L << c;
+                }
+            }
+            kernelRows[r] = inKernel;
+            otherRows[r] = other;
+        }
+    }
+
+    @Override
+    int dryOut(Tables tables, byte[] species, short[] moisture, short[] health, int width, int height,
+            long[] rows, long[] changedRows) {
+        ShortVector drought1 = table(tables.drought[1]);
+        ShortVector drought2 = table(tables.drought[2]);
+        ShortVector drought3 = table(tables.drought[3]);
+        ShortVector drought4 = table(tables.drought[4]);
+        int whole = width - width % LANES;
+        int lowDelta = 0;
+        for (int r = 0; r < height; r++) {
+            int base = r * width;
+            long bits = rows[r];
+            long changed = 0;
+            for (int c = 0; c < whole && bits >>> c != 0; c += LANES) {
+                VectorMask<Short> lanes = VectorMask.fromLong(SHORTS, bits >>> c);
+                if (!lanes.anyTrue()) {
+                    continue;
+                }
+                int i = base + c;
+                ShortVector m = ShortVector.fromArray(SHORTS, moisture, i);
+                ShortVector h = ShortVector.fromArray(SHORTS, health, i);
+                ShortVector sp = speciesAt(species, i);
+                ShortVector dried = m.max((short) 1).sub((short) 1);
+                VectorMask<Short> low = dried.compare(VectorOperators.LT, LOW);
+                // Damage factor 1-4: one more at or below 20, 10 and 0 moisture
+                ShortVector damage = lookup(drought1, sp)
+                        .blend(lookup(drought2, sp), dried.compare(VectorOperators.LE, (short) 20))
+                        .blend(lookup(drought3, sp), dried.compare(VectorOperators.LE, (short) 10))
+                        .blend(lookup(drought4, sp), dried.compare(VectorOperators.EQ, (short) 0));
+                ShortVector damaged = h.blend(h.max(damage).sub(damage), low);
+                dried.intoArray(moisture, i, lanes);
+                damaged.intoArray(health, i, lanes);
+                changed |= dried.compare(VectorOperators.NE, m).or(damaged.compare(VectorOperators.NE, h))
+                        .and(lanes).toLong() << c;
+                lowDelta += low.and(lanes).trueCount() - m.compare(VectorOperators.LT, LOW).and(lanes).trueCount();
+            }
+            changedRows[r] |= changed;
+            if (whole < width) {
+                lowDelta += SCALAR.dryOutRow(tables, species, moisture, health, base, tail(bits, whole),
+                        changedRows, r);
+            }
+        }
+        return lowDelta;
+    }
+
+    @Override
+    int water(short[] moisture, short[] health, int width, int height, long[] rows, long[] changedRows) {
+        int whole = width - width % LANES;
+        int lowDelta = 0;
+        for (int r = 0; r < height; r++) {
+            int base = r * width;
+            long bits = rows[r];
+            long changed = 0;
+            for (int c = 0; c < whole && bits >>> c != 0; c += LANES) {
+                VectorMask<Short> lanes = VectorMask.fromLong(SHORTS, bits >>> c);
+                if (!lanes.anyTrue()) {
+                    continue;
+                }
+                int i = base + c;
+                ShortVector m = ShortVector.fromArray(SHORTS, moisture, i);
+                ShortVector h = ShortVector.fromArray(SHORTS, health, i);
+                ShortVector watered = m.min((short) 80).add((short) 20);
+                ShortVector healed = h.min((short) 95).add((short) 5);
+                watered.intoArray(moisture, i, lanes);
+                healed.intoArray(health, i, lanes);
+                changed |= watered.compare(VectorOperators.NE, m).or(healed.compare(VectorOperators.NE, h))
+                        .and(lanes).toLong() << c;
+                lowDelta += watered.compare(VectorOperators.LT, LOW).and(lanes).trueCount()
+                        - m.compare(VectorOperators.LT, LOW).and(lanes).trueCount();
+            }
+            changedRows[r] |= changed;
+            if (whole < width) {
+                lowDelta += SCALAR.waterRow(moisture, health, base, tail(bits, whole), changedRows, r);
+            }
+        }
+        return lowDelta;
+    }
+
+    @Override
+    void damage(short[] damage, byte[] species, short[] health, int width, int height, long[] rows,
+            long[] changedRows) {
+        ShortVector table = table(damage);
+        int whole = width - width % LANES;
+        for (int r = 0; r < height; r++) {
+            int base = r * width;
+            long bits = rows[r];
+            long changed = 0;
+            for (int c = 0; c < whole && bits >>> c != 0; c += LANES) {
+                VectorMask<Short> lanes = VectorMask.fromLong(SHORTS, bits >>> c);
+                if (!lanes.anyTrue()) {
+                    continue;
+                }
+                int i = base + c;
+                ShortVector h = ShortVector.fromArray(SHORTS, health, i);
+                ShortVector d = lookup(table, speciesAt(species, i));
+                ShortVector damaged = h.max(d).sub(d);
+                damaged.intoArray(health, i, lanes);
+                changed |= damaged.compare(VectorOperators.NE, h).and(lanes).toLong() << c;
+            }
+            changedRows[r] |= changed;
+            if (whole < width) {
+                SCALAR.damageRow(damage, species, health, base, tail(bits, whole), changedRows, r);
+            }
+        }
+    }
+
+    // The columns of a row from the first one not covered by a whole vector
+    private static long tail(long bits, int from) {
+        return from == 64 ? 0 : bits & (-1L << from);
+    }
+}
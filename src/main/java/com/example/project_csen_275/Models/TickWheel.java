@@ -0,0 +1,152 @@
+package com.example.project_csen_275.Models;
+
+import java.util.Arrays;
+
+/**
+ * Hierarchical timer wheel of simulation work scheduled for future ticks.
+ * <p>
+ * Entries are opaque {@code long} keys with a due tick. Level 0 has one slot
+ * per tick for the next {@value #SLOTS} ticks; each higher level has slots
+ * {@value #SLOTS} times as wide. An entry sits in the lowest level whose slot
+ * range holds its due tick and moves down one level when time reaches that
+ * slot, so scheduling is O(1) and each tick costs O(entries due) plus an
+ * occasional cascade. Entries beyond the top level wait in an overflow list.
+ * <p>
+ * {@link #advance(long)} must be called for every tick in order. The keys due
+ * on a tick are returned sorted, so callers that encode a cell index in the
+ * high bits process due cells in index order regardless of when they were
+ * scheduled. Not thread-safe; each tick band owns its own wheel.
+ */
+final class TickWheel {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int LEVELS = 4;
+
+    private final long[][][] keys = new long[LEVELS][SLOTS][];
+    private final long[][][] dues = new long[LEVELS][SLOTS][];
+    private final int[][] counts = new int[LEVELS][SLOTS];
+    private long[] overflowKeys = new long[0];
+    private long[] overflowDues = new long[0];
+    private int overflowCount = 0;
+    // Keys due on the tick last advanced, sorted
+    private long[] due = new long[16];
+    private int size = 0;
+    // Next tick to be advanced
+    private long current;
+
+    TickWheel(long firstTick) {
+        this.current = firstTick;
+    }
+
+    /**
+     * Schedule a key for a tick. Work scheduled for a tick already advanced
+     * is due on the next one.
+     */
+    void schedule(long tick, long key) {
+        size++;
+        place(Math.max(tick, current), key);
+    }
+
+    private void place(long tick, long key) {
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = BITS * (level + 1);
+            // Same slot of the level above as the current tick: fits in this level
+            if ((tick >>> shift) == (current >>> shift)) {
+                int slot = (int) (tick >>> (BITS * level)) & (SLOTS - 1);
+                add(level, slot, tick, key);
+                return;
+            }
+        }
+        if (overflowCount == overflowKeys.length) {
+            overflowKeys = Arrays.copyOf(overflowKeys, Math.max(16, overflowCount * 2));
+            overflowDues = Arrays.copyOf(overflowDues, overflowKeys.length);
+        }
+        overflowKeys[overflowCount] = key;
+        overflowDues[overflowCount++] = tick;
+    }
+
+    private void add(int level, int slot, long tick, long key) {
+        int n = counts[level][slot];
+        if (keys[level][slot] == null) {
+            keys[level][slot] = new long[8];
+            dues[level][slot] = new long[8];
+        } else if (n == keys[level][slot].length) {
+            keys[level][slot] = Arrays.copyOf(keys[level][slot], n * 2);
+            dues[level][slot] = Arrays.copyOf(dues[level][slot], n * 2);
+        }
+        keys[level][slot][n] = key;
+        dues[level][slot][n] = tick;
+        counts[level][slot] = n + 1;
+    }
+
+    /**
+     * Move time to a tick and collect the keys due on it.
+     *
+     * @param tick The next tick; must follow the previous call's tick
+     * @return number of due keys, available from {@link #dueKey(int)}
+     */
+    int advance(long tick) {
+        if (tick != current) {
+            throw new IllegalStateException("Timer wheel at tick " + current + " advanced to " + tick);
+        }
+        // Bring down the slots that start at this tick, highest level first
+        if ((tick & ((1L << (BITS * LEVELS)) - 1)) == 0 && overflowCount > 0) {
+            long[] oldKeys = overflowKeys;
+            long[] oldDues = overflowDues;
+            int n = overflowCount;
+            overflowKeys = new long[0];
+            overflowDues = new long[0];
+            overflowCount = 0;
+            for (int i = 0; i < n; i++) {
+                place(oldDues[i], oldKeys[i]);
+            }
+        }
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            if ((tick & ((1L << (BITS * level)) - 1)) == 0) {
+                cascade(level, (int) (tick >>> (BITS * level)) & (SLOTS - 1));
+            }
+        }
+
+        int slot = (int) tick & (SLOTS - 1);
+        int n = counts[0][slot];
+        if (due.length < n) {
+            due = new long[Math.max(n, due.length * 2)];
+        }
+        if (n > 0) {
+            System.arraycopy(keys[0][slot], 0, due, 0, n);
+            counts[0][slot] = 0;
+            Arrays.sort(due, 0, n);
+        }
+        size -= n;
+        current = tick + 1;
+        return n;
+    }
+
+    private void cascade(int level, int slot) {
+        int n = counts[level][slot];
+        if (n == 0) {
+            return;
+        }
+        long[] slotKeys = keys[level][slot];
+        long[] slotDues = dues[level][slot];
+        counts[level][slot] = 0;
+        for (int i = 0; i < n; i++) {
+            // Lands in a lower level: the slot's range now shares the current tick's upper bits
+            place(slotDues[i], slotKeys[i]);
+        }
+    }
+
+    /**
+     * Get one of the keys due on the tick last advanced, in ascending order.
+     */
+    long dueKey(int i) {
+        return due[i];
+    }
+
+    /**
+     * Get the number of scheduled keys not yet due.
+     */
+    int size() {
+        return size;
+    }
+}
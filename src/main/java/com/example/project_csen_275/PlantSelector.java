@@ -1,28 +1,47 @@
 package com.example.project_csen_275;
 
 import com.example.project_csen_275.Models.Plants.*;
+import com.example.project_csen_275.render.TileImageCache;
 import javafx.scene.control.ComboBox;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 public class PlantSelector {
 
-    private final ComboBox<String> plantSelector;
-    private final Map<String, Class<? extends Plant>> plantTypes;
+    private ComboBox<String> plantSelector;
+    private final Map<String, Species> plantTypes;
 
     public PlantSelector() {
-        plantSelector = new ComboBox<>();
         plantTypes = new HashMap<>();
 
         // Initialize plant types
-        plantTypes.put("Empty", NoPlant.class);
-        plantTypes.put("Carrot", Carrot.class);
-        plantTypes.put("Cherry", Cherry.class);
-        plantTypes.put("Corn", Corn.class);
-        plantTypes.put("Pumpkin", Pumpkin.class);
-        plantTypes.put("Sunflower", Sunflower.class);
+        for (Species species : SpeciesTable.builtIn()) {
+            plantTypes.put(species.getKey(), species);
+        }
+    }
+
+    /**
+     * Get the names of the selectable plant types.
+     */
+    public Set<String> getPlantNames() {
+        return plantTypes.keySet();
+    }
+
+    /**
+     * Get the plant combo box, creating it on first use so the selector can be
+     * used without a running JavaFX toolkit.
+     */
+    public ComboBox<String> getComboBox() {
+        if (plantSelector == null) {
+            plantSelector = createComboBox();
+        }
+        return plantSelector;
+    }
+
+    private ComboBox<String> createComboBox() {
+        ComboBox<String> plantSelector = new ComboBox<>();
 
         // Add plant types to combo box
         plantSelector.getItems().addAll(plantTypes.keySet());
@@ -43,10 +62,8 @@ public class PlantSelector {
                     setGraphic(null);
                 } else {
                     try {
-                        Plant plant = plantTypes.get(item).getDeclaredConstructor().newInstance();
-                        String imagePath = "assests/Tiles/" + plant.getImageUrl();
-                        Image image = new Image(getClass().getResourceAsStream(imagePath));
-                        imageView.setImage(image);
+                        Species species = plantTypes.get(item);
+                        imageView.setImage(TileImageCache.get(species.getImage(), 20, 20));
                         imageView.setFitHeight(20);
                         imageView.setFitWidth(20);
                         setText(item);
@@ -58,17 +75,11 @@ public class PlantSelector {
                 }
             }
         });
-    }
-
-    public ComboBox<String> getComboBox() {
         return plantSelector;
     }
 
     public Plant createPlantByName(String plantName) {
-        try {
-            return plantTypes.get(plantName).getDeclaredConstructor().newInstance();
-        } catch (Exception e) {
-            return new NoPlant();
-        }
+        Species species = plantTypes.get(plantName);
+        return species != null ? species.create() : new NoPlant();
     }
 }
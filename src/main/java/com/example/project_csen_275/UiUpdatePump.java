@@ -0,0 +1,179 @@
+package com.example.project_csen_275;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Frame-synchronized pump that applies updates from background threads to the
+ * JavaFX scene in one batch per frame, instead of one {@code Platform.runLater}
+ * per update.
+ * <p>
+ * Updates posted from any thread go onto a lock-free queue. Once per frame the
+ * pump's {@link AnimationTimer} runs every queued update, then the registered
+ * frame tasks, which pick up coalesced state such as the latest garden
+ * snapshot or the log lines received since the last frame.
+ * <p>
+ * The queue holds {@value #DEFAULT_CAPACITY} updates unless
+ * {@value #CAPACITY_PROPERTY} says otherwise. When it is full
+ * a background thread posting an update waits for the next frame to drain it,
+ * so a simulation that outruns the renderer is slowed to the frame rate rather
+ * than piling up work on the JavaFX thread. Once the pump is stopped, posts
+ * are dropped.
+ */
+public class UiUpdatePump {
+    public static final String CAPACITY_PROPERTY = "garden.ui.queueSize";
+    public static final int DEFAULT_CAPACITY = 1024;
+    // How long a blocked producer waits before checking whether the pump stopped
+    private static final long WAIT_MILLIS = 50;
+
+    private final long frameNanos;
+    private final int capacity;
+    private final ConcurrentLinkedQueue<Runnable> updates = new ConcurrentLinkedQueue<>();
+    private final Semaphore slots;
+    private final List<Runnable> frameTasks = new CopyOnWriteArrayList<>();
+    private final LongAdder dropped = new LongAdder();
+    private final AnimationTimer timer;
+    private volatile boolean stopped = false;
+    private long frameCount = 0;
+
+    /**
+     * @param frameNanos Minimum time between frames in nanoseconds
+     */
+    public UiUpdatePump(long frameNanos) {
+        this.frameNanos = frameNanos;
+        this.capacity = Math.max(1, Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+        this.slots = new Semaphore(capacity);
+        this.timer = new AnimationTimer() {
+            private long lastFrame = 0;
+
+            @Override
+            public void handle(long now) {
+                if (now - lastFrame < UiUpdatePump.this.frameNanos) {
+                    return;
+                }
+                lastFrame = now;
+                pulse();
+            }
+        };
+    }
+
+    /**
+     * Queue an update to run on the JavaFX thread with the next frame. Called
+     * on the JavaFX thread, an update that finds the queue full runs at once,
+     * after the updates already queued so they still apply in order.
+     *
+     * @return false if the update was dropped because the pump stopped
+     */
+    public boolean post(Runnable update) {
+        if (stopped) {
+            dropped.increment();
+            return false;
+        }
+        if (slots.tryAcquire()) {
+            updates.offer(update);
+            return true;
+        }
+        if (Platform.isFxApplicationThread()) {
+            // Waiting here would block the frame that frees a slot. Run what is queued
+            // first, but not what producers add meanwhile, or this could drain forever
+            drain(getPendingCount());
+            run(update);
+            return true;
+        }
+        try {
+            while (!slots.tryAcquire(WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (stopped) {
+                    dropped.increment();
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+            return false;
+        }
+        updates.offer(update);
+        return true;
+    }
+
+    /**
+     * Run a task on every frame, after the queued updates.
+     */
+    public void addFrameTask(Runnable task) {
+        frameTasks.add(task);
+    }
+
+    public void start() {
+        timer.start();
+    }
+
+    /**
+     * Stop drawing frames. Updates still queued are discarded and blocked
+     * producers give up.
+     */
+    public void stop() {
+        stopped = true;
+        timer.stop();
+        while (updates.poll() != null) {
+            slots.release();
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Get the number of updates waiting for the next frame
+     */
+    public int getPendingCount() {
+        return capacity - slots.availablePermits();
+    }
+
+    /**
+     * Get the number of updates dropped because the pump stopped
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Get the number of frames drawn so far
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    private void pulse() {
+        frameCount++;
+        // Only what was queued before this frame; later posts wait for the next one
+        drain(getPendingCount());
+        for (Runnable task : frameTasks) {
+            run(task);
+        }
+    }
+
+    // Run up to a number of queued updates, oldest first
+    private void drain(int limit) {
+        for (int i = 0; i < limit; i++) {
+            Runnable update = updates.poll();
+            if (update == null) {
+                break;
+            }
+            slots.release();
+            run(update);
+        }
+    }
+
+    private static void run(Runnable update) {
+        try {
+            update.run();
+        } catch (Exception ex) {
+            GardenLogger.error("Error updating UI: {}", ex.getMessage());
+        }
+    }
+}
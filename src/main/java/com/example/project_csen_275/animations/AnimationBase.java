@@ -6,7 +6,12 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 
 /**
- * Base class for all garden animations
+ * Base class for all garden animations.
+ * <p>
+ * An animation builds its nodes and timeline the first time it is played and
+ * keeps them, so the same instance can be replayed on any cell once the
+ * previous run finished. {@link AnimationFactory} keeps pools of finished
+ * animations per type and leases them out instead of building new ones.
  */
 public abstract class AnimationBase {
 
@@ -19,6 +24,11 @@ public abstract class AnimationBase {
     // Cell where the animation will be displayed
     protected StackPane cell;
 
+    // Built on first play and replayed from the start after that
+    private Timeline timeline;
+    // Pool to return to when finished, null if not pooled
+    private AnimationPool pool;
+
     /**
      * Create a new animation for the specified cell
      * 
@@ -38,9 +48,37 @@ public abstract class AnimationBase {
     }
 
     /**
-     * Play the animation
+     * Play the animation on its cell
      */
-    public abstract void play();
+    public void play() {
+        playOn(cell);
+    }
+
+    /**
+     * Play the animation on a cell, building its elements on first use. The
+     * animation must not still be playing.
+     */
+    final void playOn(StackPane target) {
+        cell = target;
+        if (timeline == null) {
+            prepareElements();
+            timeline = createTimeline();
+            timeline.setOnFinished(_ -> finished());
+        }
+        attachElements();
+        timeline.playFromStart();
+    }
+
+    final void setPool(AnimationPool pool) {
+        this.pool = pool;
+    }
+
+    private void finished() {
+        cell = null;
+        if (pool != null) {
+            pool.release(this);
+        }
+    }
 
     /**
      * Create the animation timeline
@@ -50,10 +88,16 @@ public abstract class AnimationBase {
     protected abstract Timeline createTimeline();
 
     /**
-     * Prepare the animation elements
+     * Build the animation elements. Called once per instance.
      */
     protected abstract void prepareElements();
 
+    /**
+     * Add the elements to the current cell. Called on every play; the
+     * timeline's first key frame resets their state.
+     */
+    protected abstract void attachElements();
+
     /**
      * Clean up the animation elements
      */
@@ -1,5 +1,6 @@
 package com.example.project_csen_275.animations;
 
+import java.util.EnumMap;
 import javafx.scene.layout.StackPane;
 
 /**
@@ -19,36 +20,66 @@ public class AnimationFactory {
         FARMER
     }
 
+    // One pool of reusable animations per type
+    private static final EnumMap<AnimationType, AnimationPool> POOLS = new EnumMap<>(AnimationType.class);
+    private static final StaggerScheduler SCHEDULER = new StaggerScheduler();
+
+    static {
+        POOLS.put(AnimationType.WATER, new AnimationPool(WaterAnimation::new));
+        POOLS.put(AnimationType.PEST_SPRAY, new AnimationPool(PestSprayAnimation::new));
+        POOLS.put(AnimationType.FROST, new AnimationPool(FrostAnimation::new));
+        POOLS.put(AnimationType.RAIN, new AnimationPool(RainAnimation::new));
+        POOLS.put(AnimationType.SUNSHINE, new AnimationPool(SunshineAnimation::new));
+        POOLS.put(AnimationType.FARMER, new AnimationPool(FarmerAnimation::new));
+    }
+
     /**
-     * Play an animation on the specified cell based on the animation type
+     * Play an animation on the specified cell based on the animation type.
+     * Finished animations are reused, so repeated events build no new nodes.
      * 
-     * @param cell The StackPane where the animation will be shown
+     * @param cell The StackPane where the animation will be shown, or null to skip it
      * @param type The type of animation to play
      */
     public static void playAnimation(StackPane cell, AnimationType type) {
-        switch (type) {
-            case WATER:
-                WaterAnimation.play(cell);
-                break;
-            case PEST_SPRAY:
-                PestSprayAnimation.play(cell);
-                break;
-            case FROST:
-                FrostAnimation.play(cell);
-                break;
-            case RAIN:
-                RainAnimation.play(cell);
-                break;
-            case SUNSHINE:
-                SunshineAnimation.play(cell);
-                break;
-            case FARMER:
-                FarmerAnimation.play(cell);
-                break;
-            default:
-                // No animation played
-                break;
+        if (cell == null) {
+            // Cells drawn on a canvas have no pane to animate
+            return;
         }
+        POOLS.get(type).play(cell);
     }
 
+    /**
+     * Play an animation on a cell after a delay. All delayed animations share
+     * one frame timer.
+     *
+     * @param cell        The StackPane where the animation will be shown, or null to skip it
+     * @param type        The type of animation to play
+     * @param delayMillis Delay before the animation starts
+     */
+    public static void playAnimationLater(StackPane cell, AnimationType type, long delayMillis) {
+        if (cell == null) {
+            return;
+        }
+        if (delayMillis <= 0) {
+            playAnimation(cell, type);
+        } else {
+            SCHEDULER.schedule(cell, type, delayMillis);
+        }
+    }
+
+    /**
+     * Summary of the animation pools, for logging
+     */
+    public static String describe() {
+        StringBuilder sb = new StringBuilder();
+        for (var entry : POOLS.entrySet()) {
+            if (!sb.isEmpty()) {
+                sb.append(", ");
+            }
+            sb.append(entry.getKey()).append(' ')
+                    .append(entry.getValue().getCreatedCount()).append(" built/")
+                    .append(entry.getValue().getIdleCount()).append(" idle");
+        }
+        return sb.toString();
+    }
 }
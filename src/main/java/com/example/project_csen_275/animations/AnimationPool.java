@@ -0,0 +1,53 @@
+package com.example.project_csen_275.animations;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+import javafx.scene.layout.StackPane;
+
+/**
+ * Pool of finished animations of one type. Playing leases an idle instance,
+ * or builds one if all are busy; the instance comes back when its timeline
+ * finishes. Only used on the JavaFX application thread.
+ */
+final class AnimationPool {
+    // Idle instances kept beyond this are left to the garbage collector
+    private static final int MAX_IDLE = 4096;
+
+    private final Supplier<? extends AnimationBase> factory;
+    private final ArrayDeque<AnimationBase> idle = new ArrayDeque<>();
+    private int created = 0;
+
+    AnimationPool(Supplier<? extends AnimationBase> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Play a pooled animation on a cell.
+     */
+    void play(StackPane cell) {
+        AnimationBase animation = idle.pollFirst();
+        if (animation == null) {
+            animation = factory.get();
+            animation.setPool(this);
+            created++;
+        }
+        animation.playOn(cell);
+    }
+
+    void release(AnimationBase animation) {
+        if (idle.size() < MAX_IDLE) {
+            idle.addFirst(animation);
+        }
+    }
+
+    /**
+     * Get the number of instances built so far
+     */
+    int getCreatedCount() {
+        return created;
+    }
+
+    int getIdleCount() {
+        return idle.size();
+    }
+}
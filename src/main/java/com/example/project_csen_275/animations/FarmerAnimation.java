@@ -1,6 +1,7 @@
 package com.example.project_csen_275.animations;
 
 import com.example.project_csen_275.GardenLogger;
+import com.example.project_csen_275.render.TileImageCache;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.scene.image.Image;
@@ -38,19 +39,18 @@ public class FarmerAnimation extends AnimationBase {
         background.setFill(Color.rgb(210, 180, 140, 0.3));
     }
 
-    @Override
-    public void play() {
-        prepareElements();
-        createTimeline().play();
+    /**
+     * Create an animation for the pool, bound to a cell each time it is played
+     */
+    FarmerAnimation() {
+        this(null);
     }
 
     @Override
     protected void prepareElements() {
         try {
             // Load farmer image
-            Image farmerImage = new Image(getClass()
-                    .getResourceAsStream("/com/example/project_csen_275/assests/Tiles/gardener.png")); // Using farmer
-                                                                                                       // tile
+            Image farmerImage = TileImageCache.get("gardener.png"); // Using farmer tile
             farmerView = new ImageView(farmerImage);
             farmerView.setFitWidth(30);
             farmerView.setFitHeight(30);
@@ -66,15 +66,7 @@ public class FarmerAnimation extends AnimationBase {
                 // Position particles at the bottom part of the cell
                 soilParticles[i].setTranslateX(5 + (i * 5));
                 soilParticles[i].setTranslateY(0);
-
-                // Add to cell
-                cell.getChildren().add(soilParticles[i]);
             }
-
-            // Add elements to cell
-            cell.getChildren().addFirst(background);
-            cell.getChildren().add(farmerView);
-
         } catch (Exception ex) {
             // Log error and use fallback
             GardenLogger.error("Failed to load farmer animation image: " + ex.getMessage());
@@ -85,8 +77,16 @@ public class FarmerAnimation extends AnimationBase {
             farmerText.setFill(Color.BROWN);
             farmerText.setTranslateX(10);
             farmerText.setTranslateY(-10);
+        }
+    }
 
-            // Add elements to cell
+    @Override
+    protected void attachElements() {
+        if (farmerView != null && soilParticles != null) {
+            cell.getChildren().addAll(soilParticles);
+            cell.getChildren().addFirst(background);
+            cell.getChildren().add(farmerView);
+        } else {
             cell.getChildren().add(background);
             cell.getChildren().add(farmerText);
         }
@@ -101,8 +101,10 @@ public class FarmerAnimation extends AnimationBase {
             timeline.getKeyFrames().add(new KeyFrame(Duration.ZERO, _ -> {
                 farmerView.setOpacity(0);
                 background.setOpacity(0);
+                farmerView.setTranslateX(10);
                 for (Circle particle : soilParticles) {
                     particle.setOpacity(0);
+                    particle.setTranslateY(0);
                 }
             }));
 
@@ -169,6 +171,7 @@ public class FarmerAnimation extends AnimationBase {
             timeline.getKeyFrames().add(new KeyFrame(Duration.ZERO, _ -> {
                 farmerText.setOpacity(0);
                 background.setOpacity(0);
+                farmerText.setTranslateY(-10);
             }));
 
             // Show farmer
@@ -223,6 +226,6 @@ public class FarmerAnimation extends AnimationBase {
      * @param cell The cell to animate
      */
     public static void play(StackPane cell) {
-        new FarmerAnimation(cell).play();
+        AnimationFactory.playAnimation(cell, AnimationFactory.AnimationType.FARMER);
     }
 }
@@ -1,6 +1,7 @@
 package com.example.project_csen_275.animations;
 
 import com.example.project_csen_275.GardenLogger;
+import com.example.project_csen_275.render.TileImageCache;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.scene.image.Image;
@@ -38,19 +39,18 @@ public class FrostAnimation extends AnimationBase {
         background.setFill(Color.rgb(240, 248, 255));
     }
 
-    @Override
-    public void play() {
-        prepareElements();
-        createTimeline().play();
+    /**
+     * Create an animation for the pool, bound to a cell each time it is played
+     */
+    FrostAnimation() {
+        this(null);
     }
 
     @Override
     protected void prepareElements() {
         try {
             // Use a tile from the existing assets as a snowflake/frost icon
-            Image snowflakeImage = new Image(getClass()
-                    .getResourceAsStream("/com/example/project_csen_275/assests/Tiles/frost.png")); // Using an
-                                                                                                    // appropriate tile
+            Image snowflakeImage = TileImageCache.get("frost.png"); // Using an appropriate tile
                                                                                                     // as snowflake
             snowflakeView = new ImageView(snowflakeImage);
             snowflakeView.setFitWidth(30);
@@ -67,15 +67,7 @@ public class FrostAnimation extends AnimationBase {
                 double angle = i * (Math.PI * 2 / frostParticles.length);
                 frostParticles[i].setTranslateX(10 + Math.cos(angle) * 15);
                 frostParticles[i].setTranslateY(-10 + Math.sin(angle) * 15);
-
-                // Add to cell
-                cell.getChildren().add(frostParticles[i]);
             }
-
-            // Add elements to cell
-            cell.getChildren().add(background);
-            cell.getChildren().add(snowflakeView);
-
         } catch (Exception ex) {
             // Log error and use fallback
             GardenLogger.error("Failed to load frost animation image: " + ex.getMessage());
@@ -86,8 +78,16 @@ public class FrostAnimation extends AnimationBase {
             snowflakeText.setFill(Color.LIGHTBLUE);
             snowflakeText.setTranslateX(10);
             snowflakeText.setTranslateY(-10);
+        }
+    }
 
-            // Add elements to cell
+    @Override
+    protected void attachElements() {
+        if (snowflakeView != null && frostParticles != null) {
+            cell.getChildren().addAll(frostParticles);
+            cell.getChildren().add(background);
+            cell.getChildren().add(snowflakeView);
+        } else {
             cell.getChildren().add(background);
             cell.getChildren().add(snowflakeText);
         }
@@ -103,9 +103,12 @@ public class FrostAnimation extends AnimationBase {
                 snowflakeView.setOpacity(0);
                 background.setOpacity(0);
                 snowflakeView.setRotate(0);
-                for (Circle particle : frostParticles) {
-                    particle.setOpacity(0);
-                    particle.setRadius(1);
+                for (int i = 0; i < frostParticles.length; i++) {
+                    double angle = i * (Math.PI * 2 / frostParticles.length);
+                    frostParticles[i].setOpacity(0);
+                    frostParticles[i].setRadius(1);
+                    frostParticles[i].setTranslateX(10 + Math.cos(angle) * 15);
+                    frostParticles[i].setTranslateY(-10 + Math.sin(angle) * 15);
                 }
             }));
 
@@ -207,6 +210,6 @@ public class FrostAnimation extends AnimationBase {
      * @param cell The cell to animate
      */
     public static void play(StackPane cell) {
-        new FrostAnimation(cell).play();
+        AnimationFactory.playAnimation(cell, AnimationFactory.AnimationType.FROST);
     }
 }
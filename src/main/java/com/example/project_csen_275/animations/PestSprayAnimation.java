@@ -1,6 +1,7 @@
 package com.example.project_csen_275.animations;
 
 import com.example.project_csen_275.GardenLogger;
+import com.example.project_csen_275.render.TileImageCache;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.scene.image.Image;
@@ -38,18 +39,18 @@ public class PestSprayAnimation extends AnimationBase {
         super(cell);
     }
 
-    @Override
-    public void play() {
-        prepareElements();
-        createTimeline().play();
+    /**
+     * Create an animation for the pool, bound to a cell each time it is played
+     */
+    PestSprayAnimation() {
+        this(null);
     }
 
     @Override
     protected void prepareElements() {
         try {
             // Load pest spray image
-            Image sprayImage = new Image(
-                    getClass().getResourceAsStream("/com/example/project_csen_275/assests/Tiles/pest-spray.png"));
+            Image sprayImage = TileImageCache.get("pest-spray.png");
             sprayView = new ImageView(sprayImage);
             sprayView.setFitWidth(30);
             sprayView.setFitHeight(30);
@@ -67,17 +68,7 @@ public class PestSprayAnimation extends AnimationBase {
                 // Position mist drops at slightly different positions
                 mistDrops[i].setTranslateX(25 + (i * 5) - 10);
                 mistDrops[i].setTranslateY(-15 - (i % 3) * 5);
-
-                // Add to cell
-                cell.getChildren().add(mistDrops[i]);
             }
-
-            // Add spray bottle on top of mist
-            cell.getChildren().add(sprayView);
-
-            // Add background behind all
-            cell.getChildren().addFirst(background);
-
         } catch (Exception ex) {
             // Log error but use a sophisticated fallback
             GardenLogger.error("Failed to load pest spray image: " + ex.getMessage());
@@ -96,17 +87,23 @@ public class PestSprayAnimation extends AnimationBase {
                 mistCircles[i].setFill(Color.LIGHTGREEN);
                 mistCircles[i].setTranslateX(20 + (i * 5));
                 mistCircles[i].setTranslateY(-15);
-
-                // Add to cell
-                cell.getChildren().add(mistCircles[i]);
             }
+        }
+    }
 
+    @Override
+    protected void attachElements() {
+        if (sprayView != null && mistDrops != null) {
+            cell.getChildren().addAll(mistDrops);
+            // Add spray bottle on top of mist
+            cell.getChildren().add(sprayView);
+        } else {
+            cell.getChildren().addAll(mistCircles);
             // Add text on top of mist
             cell.getChildren().add(sprayText);
-
-            // Add background behind all
-            cell.getChildren().addFirst(background);
         }
+        // Add background behind all
+        cell.getChildren().addFirst(background);
     }
 
     @Override
@@ -121,8 +118,10 @@ public class PestSprayAnimation extends AnimationBase {
                 sprayView.setRotate(0);
                 sprayView.setScaleX(0.8);
                 sprayView.setScaleY(0.8);
-                for (Rectangle mist : mistDrops) {
-                    mist.setOpacity(0);
+                for (int i = 0; i < mistDrops.length; i++) {
+                    mistDrops[i].setOpacity(0);
+                    mistDrops[i].setTranslateX(25 + (i * 5) - 10);
+                    mistDrops[i].setTranslateY(-15 - (i % 3) * 5);
                 }
             }));
 
@@ -231,6 +230,6 @@ public class PestSprayAnimation extends AnimationBase {
      * @param cell The cell to animate
      */
     public static void play(StackPane cell) {
-        new PestSprayAnimation(cell).play();
+        AnimationFactory.playAnimation(cell, AnimationFactory.AnimationType.PEST_SPRAY);
     }
 }
@@ -1,6 +1,7 @@
 package com.example.project_csen_275.animations;
 
 import com.example.project_csen_275.GardenLogger;
+import com.example.project_csen_275.render.TileImageCache;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.scene.image.Image;
@@ -38,18 +39,18 @@ public class RainAnimation extends AnimationBase {
         background.setFill(Color.rgb(230, 240, 250));
     }
 
-    @Override
-    public void play() {
-        prepareElements();
-        createTimeline().play();
+    /**
+     * Create an animation for the pool, bound to a cell each time it is played
+     */
+    RainAnimation() {
+        this(null);
     }
 
     @Override
     protected void prepareElements() {
         try {
             // Using a suitable tile for cloud image
-            Image cloudImage = new Image(getClass()
-                    .getResourceAsStream("/com/example/project_csen_275/assests/Tiles/rain.png"));
+            Image cloudImage = TileImageCache.get("rain.png");
             cloudView = new ImageView(cloudImage);
             cloudView.setFitWidth(35);
             cloudView.setFitHeight(25);
@@ -69,15 +70,7 @@ public class RainAnimation extends AnimationBase {
                 rainDrops[i].setStartY(-10);
                 rainDrops[i].setEndX(xPos);
                 rainDrops[i].setEndY(-5);
-
-                // Add to cell
-                cell.getChildren().add(rainDrops[i]);
             }
-
-            // Add elements to cell
-            cell.getChildren().addFirst(background);
-            cell.getChildren().add(cloudView);
-
         } catch (Exception ex) {
             // Log error and use fallback
             GardenLogger.error("Failed to load rain animation image: " + ex.getMessage());
@@ -88,8 +81,16 @@ public class RainAnimation extends AnimationBase {
             rainText.setFill(Color.DARKBLUE);
             rainText.setTranslateX(10);
             rainText.setTranslateY(-10);
+        }
+    }
 
-            // Add elements to cell
+    @Override
+    protected void attachElements() {
+        if (cloudView != null && rainDrops != null) {
+            cell.getChildren().addAll(rainDrops);
+            cell.getChildren().addFirst(background);
+            cell.getChildren().add(cloudView);
+        } else {
             cell.getChildren().add(background);
             cell.getChildren().add(rainText);
         }
@@ -106,6 +107,8 @@ public class RainAnimation extends AnimationBase {
                 background.setOpacity(0);
                 for (Line drop : rainDrops) {
                     drop.setOpacity(0);
+                    drop.setStartY(-10);
+                    drop.setEndY(-5);
                 }
             }));
 
@@ -218,6 +221,6 @@ public class RainAnimation extends AnimationBase {
      * @param cell The cell to animate
      */
     public static void play(StackPane cell) {
-        new RainAnimation(cell).play();
+        AnimationFactory.playAnimation(cell, AnimationFactory.AnimationType.RAIN);
     }
 }
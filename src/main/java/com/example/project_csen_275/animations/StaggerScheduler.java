@@ -0,0 +1,116 @@
+package com.example.project_csen_275.animations;
+
+import java.util.Arrays;
+import javafx.animation.AnimationTimer;
+import javafx.scene.layout.StackPane;
+
+/**
+ * Starts delayed cell animations from one shared {@link AnimationTimer}
+ * instead of one delay {@code Timeline} per cell.
+ * <p>
+ * Pending starts are kept in a binary min-heap over parallel arrays, ordered by
+ * due time. Each pulse starts every animation that is due, and the timer only
+ * runs while something is pending. The arrays grow to the largest burst and
+ * are then reused. Only used on the JavaFX application thread.
+ */
+final class StaggerScheduler {
+    private long[] due = new long[64];
+    private StackPane[] cells = new StackPane[64];
+    private AnimationFactory.AnimationType[] types = new AnimationFactory.AnimationType[64];
+    private int size = 0;
+    private boolean running = false;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            fire(now);
+        }
+    };
+
+    /**
+     * Start an animation on a cell after a delay.
+     */
+    void schedule(StackPane cell, AnimationFactory.AnimationType type, long delayMillis) {
+        if (size == due.length) {
+            int capacity = size * 2;
+            due = Arrays.copyOf(due, capacity);
+            cells = Arrays.copyOf(cells, capacity);
+            types = Arrays.copyOf(types, capacity);
+        }
+        long at = System.nanoTime() + delayMillis * 1_000_000L;
+        // Sift the new entry up from the end of the heap
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (due[parent] <= at) {
+                break;
+            }
+            move(parent, i);
+            i = parent;
+        }
+        due[i] = at;
+        cells[i] = cell;
+        types[i] = type;
+        if (!running) {
+            running = true;
+            timer.start();
+        }
+    }
+
+    /**
+     * Get the number of animations waiting to start
+     */
+    int size() {
+        return size;
+    }
+
+    private void fire(long now) {
+        while (size > 0 && due[0] <= now) {
+            StackPane cell = cells[0];
+            AnimationFactory.AnimationType type = types[0];
+            removeFirst();
+            AnimationFactory.playAnimation(cell, type);
+        }
+        if (size == 0) {
+            running = false;
+            timer.stop();
+        }
+    }
+
+    private void removeFirst() {
+        int last = --size;
+        long at = due[last];
+        StackPane cell = cells[last];
+        AnimationFactory.AnimationType type = types[last];
+        cells[last] = null;
+        types[last] = null;
+        if (last == 0) {
+            return;
+        }
+        // Sift the last entry down from the root
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= last) {
+                break;
+            }
+            if (child + 1 < last && due[child + 1] < due[child]) {
+                child++;
+            }
+            if (at <= due[child]) {
+                break;
+            }
+            move(child, i);
+            i = child;
+        }
+        due[i] = at;
+        cells[i] = cell;
+        types[i] = type;
+    }
+
+    private void move(int from, int to) {
+        due[to] = due[from];
+        cells[to] = cells[from];
+        types[to] = types[from];
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.project_csen_275.animations;
 
 import com.example.project_csen_275.GardenLogger;
+import com.example.project_csen_275.render.TileImageCache;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.scene.image.Image;
@@ -45,17 +46,17 @@ public class SunshineAnimation extends AnimationBase {
         background.setFill(Color.rgb(255, 255, 220, 0.3));
     }
 
-    @Override
-    public void play() {
-        prepareElements();
-        createTimeline().play();
+    /**
+     * Create an animation for the pool, bound to a cell each time it is played
+     */
+    SunshineAnimation() {
+        this(null);
     }
 
     @Override
     protected void prepareElements() {
         try {
-            Image sunImage = new Image(
-                    getClass().getResourceAsStream("/com/example/project_csen_275/assests/Tiles/sun.png"));
+            Image sunImage = TileImageCache.get("sun.png");
             sunView = new ImageView(sunImage);
             sunView.setFitWidth(30);
             sunView.setFitHeight(30);
@@ -89,16 +90,7 @@ public class SunshineAnimation extends AnimationBase {
                 sunRays[i].setStartY(-10 + innerRadius * Math.sin(angle));
                 sunRays[i].setEndX(10 + outerRadius * Math.cos(angle));
                 sunRays[i].setEndY(-10 + outerRadius * Math.sin(angle));
-
-                // Add to cell
-                cell.getChildren().add(sunRays[i]);
             }
-
-            // Add elements to cell in proper order
-            cell.getChildren().add(0, background);
-            cell.getChildren().add(1, glowCircle);
-            cell.getChildren().add(sunView);
-
         } catch (Exception ex) {
             // Log error and use fallback
             GardenLogger.error("Failed to load sunshine animation image: " + ex.getMessage());
@@ -109,8 +101,18 @@ public class SunshineAnimation extends AnimationBase {
             sunText.setFill(Color.GOLD);
             sunText.setTranslateX(10);
             sunText.setTranslateY(-10);
+        }
+    }
 
-            // Add elements to cell
+    @Override
+    protected void attachElements() {
+        if (sunView != null && sunRays != null) {
+            cell.getChildren().addAll(sunRays);
+            // Add elements to cell in proper order
+            cell.getChildren().add(0, background);
+            cell.getChildren().add(1, glowCircle);
+            cell.getChildren().add(sunView);
+        } else {
             cell.getChildren().add(background);
             cell.getChildren().add(sunText);
         }
@@ -126,11 +128,15 @@ public class SunshineAnimation extends AnimationBase {
                 sunView.setOpacity(0);
                 glowCircle.setOpacity(0);
                 background.setOpacity(0);
-                for (Line ray : sunRays) {
-                    ray.setOpacity(0);
+                for (int i = 0; i < sunRays.length; i++) {
+                    double angle = Math.toRadians(i * (360.0 / sunRays.length));
+                    sunRays[i].setOpacity(0);
+                    sunRays[i].setEndX(10 + 25 * Math.cos(angle));
+                    sunRays[i].setEndY(-10 + 25 * Math.sin(angle));
                 }
                 sunView.setScaleX(0.7);
                 sunView.setScaleY(0.7);
+                sunView.setRotate(0);
             }));
 
             // Fade in sun
@@ -195,6 +201,7 @@ public class SunshineAnimation extends AnimationBase {
                 background.setOpacity(0);
                 sunText.setScaleX(0.7);
                 sunText.setScaleY(0.7);
+                sunText.setRotate(0);
             }));
 
             // Show sun
@@ -247,6 +254,6 @@ public class SunshineAnimation extends AnimationBase {
      * @param cell The cell to animate
      */
     public static void play(StackPane cell) {
-        new SunshineAnimation(cell).play();
+        AnimationFactory.playAnimation(cell, AnimationFactory.AnimationType.SUNSHINE);
     }
 }
@@ -1,6 +1,7 @@
 package com.example.project_csen_275.animations;
 
 import com.example.project_csen_275.GardenLogger;
+import com.example.project_csen_275.render.TileImageCache;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.scene.image.Image;
@@ -30,26 +31,23 @@ public class WaterAnimation extends AnimationBase {
         super(cell);
     }
 
-    @Override
-    public void play() {
-        prepareElements();
-        createTimeline().play();
+    /**
+     * Create an animation for the pool, bound to a cell each time it is played
+     */
+    WaterAnimation() {
+        this(null);
     }
 
     @Override
     protected void prepareElements() {
         try {
             // Try to load water drop image
-            Image waterImage = new Image(getClass()
-                    .getResourceAsStream("/com/example/project_csen_275/assests/Tiles/water-pour.png"));
+            Image waterImage = TileImageCache.get("water-pour.png");
             waterDropView = new ImageView(waterImage);
             waterDropView.setFitWidth(35);
             waterDropView.setFitHeight(35);
             waterDropView.setTranslateX(10);
             waterDropView.setTranslateY(-10);
-
-            // Add to cell
-            cell.getChildren().addAll(background, waterDropView);
         } catch (Exception ex) {
             // Fallback to emoji if image cannot be loaded
             GardenLogger.error("Failed to load water animation image: " + ex.getMessage());
@@ -60,12 +58,14 @@ public class WaterAnimation extends AnimationBase {
             wateringEmoji.setFill(Color.DEEPSKYBLUE);
             wateringEmoji.setTranslateX(10);
             wateringEmoji.setTranslateY(-10);
-
-            // Add to cell
-            cell.getChildren().addAll(background, wateringEmoji);
         }
     }
 
+    @Override
+    protected void attachElements() {
+        cell.getChildren().addAll(background, waterDropView != null ? waterDropView : wateringEmoji);
+    }
+
     @Override
     protected Timeline createTimeline() {
         Timeline timeline = new Timeline();
@@ -132,6 +132,6 @@ public class WaterAnimation extends AnimationBase {
      * @param cell The cell to animate
      */
     public static void play(StackPane cell) {
-        new WaterAnimation(cell).play();
+        AnimationFactory.playAnimation(cell, AnimationFactory.AnimationType.WATER);
     }
 }
@@ -0,0 +1,259 @@
+package com.example.project_csen_275.animations;
+
+import java.util.concurrent.ThreadLocalRandom;
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+
+/**
+ * Garden-wide weather effects drawn as particles on one canvas over the garden.
+ * <p>
+ * Rain, snow and sunshine used to be played cell by cell, adding nodes and a
+ * timeline to every cell. Here all particles of all effects live in primitive
+ * arrays, are moved once per frame and drawn onto a single mouse-transparent
+ * canvas, so a weather event costs the same on any garden size. Per-cell
+ * animations remain for local actions such as watering or spraying.
+ * <p>
+ * The layer's timer only runs while an effect is showing. Only used on the
+ * JavaFX application thread.
+ */
+public class WeatherParticleLayer {
+
+    /**
+     * Weather effects the layer can show
+     */
+    public enum Weather {
+        RAIN,
+        SNOW,
+        SUNSHINE
+    }
+
+    // How long an effect keeps emitting, in seconds; particles in flight finish after
+    private static final double EMIT_SECONDS = 2.5;
+    private static final int MAX_PARTICLES = 2_000;
+    // New particles per second for each weather type
+    private static final double[] EMIT_RATE = { 450, 140, 45 };
+    private static final Color RAIN_COLOR = Color.rgb(120, 170, 255, 0.6);
+    private static final Color SNOW_COLOR = Color.rgb(255, 255, 255, 0.9);
+    private static final Color MOTE_COLOR = Color.rgb(255, 215, 0, 0.8);
+    // Warm tint over the garden while the sun shines, by strength in tenths
+    private static final Color[] SUN_TINT = new Color[11];
+
+    static {
+        for (int i = 0; i < SUN_TINT.length; i++) {
+            SUN_TINT[i] = Color.rgb(255, 220, 100, 0.02 * i);
+        }
+    }
+
+    private final StackPane host;
+    private final Canvas canvas = new Canvas();
+    private final GraphicsContext gc = canvas.getGraphicsContext2D();
+
+    // Particle state, one slot per live particle in [0, count)
+    private final float[] x = new float[MAX_PARTICLES];
+    private final float[] y = new float[MAX_PARTICLES];
+    private final float[] vx = new float[MAX_PARTICLES];
+    private final float[] vy = new float[MAX_PARTICLES];
+    private final float[] age = new float[MAX_PARTICLES];
+    private final float[] size = new float[MAX_PARTICLES];
+    private final byte[] kind = new byte[MAX_PARTICLES];
+    private int count = 0;
+
+    // Remaining emit time and fractional particles carried to the next frame, per weather type
+    private final double[] emitLeft = new double[Weather.values().length];
+    private final double[] emitCarry = new double[Weather.values().length];
+    private double sunStrength = 0;
+
+    private long lastFrame = 0;
+    private boolean running = false;
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            double dt = lastFrame == 0 ? 0 : Math.min(0.1, (now - lastFrame) / 1e9);
+            lastFrame = now;
+            step(dt);
+            draw();
+            if (count == 0 && !isEmitting() && sunStrength == 0) {
+                stop();
+            }
+        }
+    };
+
+    /**
+     * Create the layer on top of the garden area.
+     *
+     * @param host Pane holding the garden; the canvas is added above its first child
+     */
+    public WeatherParticleLayer(StackPane host) {
+        this.host = host;
+        canvas.setMouseTransparent(true);
+        // Sized by the layer itself, so it never holds the garden area open
+        canvas.setManaged(false);
+        host.getChildren().add(Math.min(1, host.getChildren().size()), canvas);
+    }
+
+    /**
+     * Show a weather effect over the whole garden.
+     */
+    public void play(Weather weather) {
+        emitLeft[weather.ordinal()] = EMIT_SECONDS;
+        if (!running) {
+            running = true;
+            lastFrame = 0;
+            timer.start();
+        }
+    }
+
+    /**
+     * Get the number of particles currently in flight
+     */
+    public int getParticleCount() {
+        return count;
+    }
+
+    private void stop() {
+        running = false;
+        timer.stop();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    private boolean isEmitting() {
+        for (double left : emitLeft) {
+            if (left > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void step(double dt) {
+        // Follow the size of the garden area
+        if (canvas.getWidth() != host.getWidth() || canvas.getHeight() != host.getHeight()) {
+            canvas.setWidth(host.getWidth());
+            canvas.setHeight(host.getHeight());
+        }
+        float width = (float) canvas.getWidth();
+        float height = (float) canvas.getHeight();
+
+        for (Weather weather : Weather.values()) {
+            int w = weather.ordinal();
+            if (emitLeft[w] <= 0) {
+                continue;
+            }
+            emitLeft[w] -= dt;
+            emitCarry[w] += EMIT_RATE[w] * dt;
+            int spawn = (int) emitCarry[w];
+            emitCarry[w] -= spawn;
+            for (int i = 0; i < spawn && count < MAX_PARTICLES; i++) {
+                spawn(weather, width, height);
+            }
+        }
+
+        // Sun tint eases in while emitting and out afterwards
+        double target = emitLeft[Weather.SUNSHINE.ordinal()] > 0 ? 1 : 0;
+        sunStrength = target > sunStrength
+                ? Math.min(target, sunStrength + dt * 2)
+                : Math.max(target, sunStrength - dt);
+
+        float fdt = (float) dt;
+        int i = 0;
+        while (i < count) {
+            age[i] += fdt;
+            if (kind[i] == Weather.SNOW.ordinal()) {
+                // Flakes sway as they fall
+                x[i] += (vx[i] + 25 * (float) Math.sin(age[i] * 2.5f + size[i] * 7)) * fdt;
+            } else {
+                x[i] += vx[i] * fdt;
+            }
+            y[i] += vy[i] * fdt;
+            boolean gone = kind[i] == Weather.SUNSHINE.ordinal() ? age[i] > 2.0f || y[i] < -10 : y[i] > height + 20;
+            if (gone || x[i] < -40 || x[i] > width + 40) {
+                // Move the last particle into this slot
+                count--;
+                x[i] = x[count];
+                y[i] = y[count];
+                vx[i] = vx[count];
+                vy[i] = vy[count];
+                age[i] = age[count];
+                size[i] = size[count];
+                kind[i] = kind[count];
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void spawn(Weather weather, float width, float height) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = count++;
+        age[i] = 0;
+        kind[i] = (byte) weather.ordinal();
+        switch (weather) {
+            case RAIN -> {
+                // Slanted streaks entering from the top, a little wind from the left
+                x[i] = random.nextFloat(-60, Math.max(1, width));
+                y[i] = random.nextFloat(-40, 0);
+                vx[i] = 80;
+                vy[i] = random.nextFloat(700, 1000);
+                size[i] = random.nextFloat(10, 18);
+            }
+            case SNOW -> {
+                x[i] = random.nextFloat(0, Math.max(1, width));
+                y[i] = random.nextFloat(-20, 0);
+                vx[i] = random.nextFloat(-10, 10);
+                vy[i] = random.nextFloat(40, 90);
+                size[i] = random.nextFloat(2, 5);
+            }
+            case SUNSHINE -> {
+                // Golden motes rising from the lower half
+                x[i] = random.nextFloat(0, Math.max(1, width));
+                y[i] = random.nextFloat(height / 2, Math.max(height / 2 + 1, height));
+                vx[i] = random.nextFloat(-8, 8);
+                vy[i] = random.nextFloat(-60, -25);
+                size[i] = random.nextFloat(2, 5);
+            }
+        }
+    }
+
+    private void draw() {
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        gc.clearRect(0, 0, width, height);
+
+        if (sunStrength > 0) {
+            gc.setFill(SUN_TINT[(int) Math.round(sunStrength * 10)]);
+            gc.fillRect(0, 0, width, height);
+        }
+
+        // All rain streaks as one path, so one stroke call per frame
+        gc.setStroke(RAIN_COLOR);
+        gc.setLineWidth(1.5);
+        gc.beginPath();
+        boolean rain = false;
+        for (int i = 0; i < count; i++) {
+            if (kind[i] == Weather.RAIN.ordinal()) {
+                float length = size[i] / vy[i];
+                gc.moveTo(x[i], y[i]);
+                gc.lineTo(x[i] - vx[i] * length, y[i] - size[i]);
+                rain = true;
+            }
+        }
+        if (rain) {
+            gc.stroke();
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (kind[i] == Weather.SNOW.ordinal()) {
+                gc.setFill(SNOW_COLOR);
+                gc.fillOval(x[i], y[i], size[i], size[i]);
+            } else if (kind[i] == Weather.SUNSHINE.ordinal()) {
+                gc.setFill(MOTE_COLOR);
+                gc.setGlobalAlpha(Math.max(0, 1 - age[i] / 2.0));
+                gc.fillOval(x[i], y[i], size[i], size[i]);
+                gc.setGlobalAlpha(1);
+            }
+        }
+    }
+}
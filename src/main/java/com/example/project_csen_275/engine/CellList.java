@@ -0,0 +1,26 @@
+package com.example.project_csen_275.engine;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of flat cell indices without boxing.
+ */
+final class CellList {
+    private int[] cells = new int[16];
+    private int size = 0;
+
+    void add(int cell) {
+        if (size == cells.length) {
+            cells = Arrays.copyOf(cells, size * 2);
+        }
+        cells[size++] = cell;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(cells, size);
+    }
+}
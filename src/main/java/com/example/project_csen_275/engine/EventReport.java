@@ -0,0 +1,12 @@
+package com.example.project_csen_275.engine;
+
+/**
+ * Outcome of a garden-wide event.
+ *
+ * @param type    the event that ran
+ * @param level   log level of the event message (INFO, WARNING or EVENT)
+ * @param message human-readable summary
+ * @param cells   flat indices ({@code row * cols + col}) of the plants the event touched
+ */
+public record EventReport(WeatherEvent type, String level, String message, int[] cells) {
+}
@@ -0,0 +1,88 @@
+package com.example.project_csen_275.engine;
+
+import com.example.project_csen_275.GardenLogger;
+import com.example.project_csen_275.GardenSimulationAPI;
+import com.example.project_csen_275.Models.Garden;
+import com.example.project_csen_275.journal.EventJournal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Runs the garden simulation without a GUI, as fast as possible.
+ * <p>
+ * Usage: {@code HeadlessSimulation [rows] [cols] [cycles] [seed] [--config] [--quiet] [--journal]}.
+ * The garden starts from the seeded random layout, or from the bundled
+ * {@code garden_config.csv} with {@code --config}. {@code --quiet} turns off
+ * console and file logging so only the summary is printed. {@code --journal}
+ * records garden events to a binary event journal in {@code logs/}.
+ */
+public class HeadlessSimulation {
+
+    public static void main(String[] args) throws IOException {
+        boolean quiet = false;
+        boolean useConfig = false;
+        boolean journal = false;
+        int[] numbers = { 5, 5, 100 };
+        Long seed = null;
+        int position = 0;
+        for (String arg : args) {
+            if (arg.equals("--quiet")) {
+                quiet = true;
+            } else if (arg.equals("--journal")) {
+                journal = true;
+            } else if (arg.equals("--config")) {
+                useConfig = true;
+            } else if (position < numbers.length) {
+                numbers[position++] = Integer.parseInt(arg);
+            } else if (seed == null) {
+                seed = Long.parseLong(arg);
+            } else {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+        }
+        int rows = numbers[0];
+        int cols = numbers[1];
+        int cycles = numbers[2];
+
+        if (quiet) {
+            GardenLogger.setConsoleLoggingEnabled(false);
+            GardenLogger.setFileLoggingEnabled(false);
+        }
+
+        GardenSimulationAPI simApi = seed != null
+                ? new GardenSimulationAPI(rows, cols, seed)
+                : new GardenSimulationAPI(rows, cols);
+        if (useConfig) {
+            simApi.initializeGarden();
+        }
+        SimulationEngine engine = new SimulationEngine(simApi);
+        if (journal) {
+            engine.openJournal(EventJournal.defaultPath());
+        }
+
+        long start = System.nanoTime();
+        engine.runCycles(cycles);
+        long elapsed = System.nanoTime() - start;
+        // Let the log writer catch up so the summary is printed last
+        GardenLogger.flush();
+
+        Garden garden = engine.getGarden();
+        long simulatedMillis = engine.getClock().getSimulatedMillis();
+        System.out.printf("Garden %dx%d, seed %d, %d cycles in %.1f ms (%.1f simulated minutes, %.0fx real time)%n",
+                rows, cols, garden.getRandom().getSeed(), cycles, elapsed / 1e6,
+                simulatedMillis / 60_000.0, simulatedMillis / (elapsed / 1e6));
+        System.out.printf("Living plants: %d, empty soil: %d, dead: %d, planted: %d, watered: %d, temperature: %d°F%n",
+                garden.getLivePlantCount(), garden.getEmptySoilCount(), garden.getDeadPlantCount(),
+                garden.getPlantedCount(), garden.getWateredCount(), garden.getCurrentTemperature());
+        System.out.println("Metrics: " + engine.getMetrics());
+
+        EventJournal events = engine.getJournal();
+        if (events != null) {
+            long records = events.getRecordCount();
+            engine.closeJournal();
+            System.out.printf("Journal: %d events, %d bytes in %s%n",
+                    records, Files.size(events.getPath()), events.getPath());
+        }
+    }
+}
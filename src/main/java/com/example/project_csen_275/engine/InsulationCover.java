@@ -0,0 +1,61 @@
+package com.example.project_csen_275.engine;
+
+/**
+ * Insulation cover state machine: scheduled on a chilly day, engaged on the
+ * next cycle, and released once the temperature is back in the ideal range.
+ */
+class InsulationCover {
+    private volatile boolean pending = false;
+    private volatile boolean active = false;
+    private int cyclesLeft = 0;
+
+    /**
+     * Schedule the cover to engage on the next cycle.
+     */
+    void schedule(int cycles) {
+        pending = true;
+        cyclesLeft = cycles;
+    }
+
+    /**
+     * Cancel a pending or active cover.
+     *
+     * @return true if there was anything to cancel
+     */
+    boolean cancel() {
+        boolean wasSet = active || pending;
+        active = false;
+        pending = false;
+        cyclesLeft = 0;
+        return wasSet;
+    }
+
+    /**
+     * Engage a scheduled cover.
+     *
+     * @return true if the cover was engaged this cycle
+     */
+    boolean engageIfPending() {
+        if (!pending) {
+            return false;
+        }
+        active = true;
+        pending = false;
+        return true;
+    }
+
+    /**
+     * Release the cover once its job is done.
+     */
+    void release() {
+        active = false;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    int getCyclesLeft() {
+        return cyclesLeft;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.project_csen_275.engine;
+
+import com.example.project_csen_275.Models.Garden;
+import com.example.project_csen_275.Models.Plants.Plant;
+
+/**
+ * Anti-pest spray state machine: a spray is scheduled when pests appear,
+ * deploys on the next cycle and then damages every pest for a fixed number
+ * of cycles.
+ */
+class PestSprayControl {
+    static final int SPRAY_CYCLES = 5;
+    private static final int SPRAY_INITIAL_DMG = 8;
+    private static final int SPRAY_SUBSEQUENT_DMG = 3;
+
+    private volatile boolean pending = false;
+    private volatile boolean active = false;
+    private int cyclesLeft = 0;
+
+    /**
+     * Schedule a spray for the next cycle.
+     */
+    void schedule() {
+        pending = true;
+    }
+
+    /**
+     * Stop any ongoing or scheduled spray.
+     */
+    void cancel() {
+        pending = false;
+        active = false;
+        cyclesLeft = 0;
+    }
+
+    /**
+     * Deploy a scheduled spray.
+     *
+     * @return true if a spray was deployed this cycle
+     */
+    boolean deployIfPending() {
+        if (!pending) {
+            return false;
+        }
+        active = true;
+        cyclesLeft = SPRAY_CYCLES;
+        pending = false;
+        return true;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    int getCyclesLeft() {
+        return cyclesLeft;
+    }
+
+    /**
+     * Apply one cycle of spray to every infested plant.
+     *
+     * @return flat indices of the sprayed cells
+     */
+    int[] apply(Garden garden) {
+        if (!active || cyclesLeft <= 0) {
+            return new int[0];
+        }
+        CellList sprayed = new CellList();
+        int dmg = cyclesLeft == SPRAY_CYCLES ? SPRAY_INITIAL_DMG : SPRAY_SUBSEQUENT_DMG;
+        for (int r = 0; r < garden.getRows(); r++) {
+            for (int c = 0; c < garden.getCols(); c++) {
+                Plant plant = garden.getPlant(r, c);
+                if (plant.hasPest()) {
+                    plant.setPestHealth(plant.getPestHealth() - dmg);
+                    sprayed.add(r * garden.getCols() + c);
+                }
+            }
+        }
+        cyclesLeft--;
+        if (cyclesLeft == 0) {
+            active = false;
+        }
+        return sprayed.toArray();
+    }
+}
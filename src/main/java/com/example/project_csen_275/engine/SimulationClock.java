@@ -0,0 +1,150 @@
+package com.example.project_csen_275.engine;
+
+/**
+ * Fixed-timestep virtual clock for the simulation.
+ * <p>
+ * Simulated time only moves forward in whole steps, one per automation cycle,
+ * so a run is the same whatever the speed. When the engine is running, the
+ * clock decides how many steps are due from wall time: at the real-time rate,
+ * at a multiple of it, or as many as the machine can run.
+ */
+public final class SimulationClock {
+    /** Simulated length of one automation cycle. */
+    public static final long DEFAULT_STEP_MILLIS = 3_000;
+
+    // Lag beyond this many steps is dropped instead of caught up
+    private static final int MAX_BACKLOG_STEPS = 1_000;
+
+    /**
+     * How simulated time relates to wall time while the engine is running.
+     */
+    public enum Mode {
+        /** One simulated second per wall second. */
+        REAL_TIME,
+        /** A fixed multiple of real time, see {@link #setSpeed(double)}. */
+        SCALED,
+        /** As many steps as the engine can run. */
+        UNBOUNDED
+    }
+
+    private final long stepMillis;
+    private volatile Mode mode = Mode.REAL_TIME;
+    private volatile double speed = 1.0;
+    private volatile long simulatedMillis = 0;
+
+    // Wall-clock anchor for the paced modes, only used by the engine thread
+    private long anchorNanos;
+    private long anchorSimulatedMillis;
+
+    public SimulationClock() {
+        this(DEFAULT_STEP_MILLIS);
+    }
+
+    public SimulationClock(long stepMillis) {
+        if (stepMillis <= 0) {
+            throw new IllegalArgumentException("Step must be positive: " + stepMillis);
+        }
+        this.stepMillis = stepMillis;
+    }
+
+    public long getStepMillis() {
+        return stepMillis;
+    }
+
+    /**
+     * Get the simulated time elapsed since the start of the run.
+     */
+    public long getSimulatedMillis() {
+        return simulatedMillis;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Get the speed multiplier used in {@link Mode#SCALED} mode.
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Get the current rate of simulated time to wall time, or infinity when unbounded.
+     */
+    public double getRate() {
+        return switch (mode) {
+            case REAL_TIME -> 1.0;
+            case SCALED -> speed;
+            case UNBOUNDED -> Double.POSITIVE_INFINITY;
+        };
+    }
+
+    public synchronized void setMode(Mode mode) {
+        this.mode = mode;
+        anchor(System.nanoTime());
+    }
+
+    /**
+     * Run at a multiple of real time. Switches the clock to {@link Mode#SCALED}.
+     *
+     * @param speed simulated seconds per wall second, must be positive
+     */
+    public synchronized void setSpeed(double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("Speed must be positive: " + speed);
+        }
+        this.speed = speed;
+        this.mode = Mode.SCALED;
+        anchor(System.nanoTime());
+    }
+
+    /**
+     * Advance simulated time by one step.
+     */
+    void advance() {
+        simulatedMillis += stepMillis;
+    }
+
+    /**
+     * Restart pacing from now, e.g. when automation is (re)started.
+     */
+    synchronized void anchor(long nowNanos) {
+        anchorNanos = nowNanos;
+        anchorSimulatedMillis = simulatedMillis;
+    }
+
+    /**
+     * Check whether another step is due at the given wall time. Drops any
+     * backlog too large to catch up with.
+     */
+    synchronized boolean isStepDue(long nowNanos) {
+        if (mode == Mode.UNBOUNDED) {
+            return true;
+        }
+        long target = targetMillis(nowNanos);
+        if (target - simulatedMillis > MAX_BACKLOG_STEPS * stepMillis) {
+            // Too far behind; resume pacing from here rather than spiral
+            anchor(nowNanos);
+            return true;
+        }
+        return simulatedMillis + stepMillis <= target;
+    }
+
+    /**
+     * Get the wall time until the next step is due, 0 if it is already due.
+     */
+    synchronized long nanosUntilNextStep(long nowNanos) {
+        if (mode == Mode.UNBOUNDED) {
+            return 0;
+        }
+        double rate = getRate();
+        double wallMillisAtNext = (simulatedMillis + stepMillis - anchorSimulatedMillis) / rate;
+        long dueNanos = anchorNanos + (long) (wallMillisAtNext * 1_000_000);
+        return Math.max(0, dueNanos - nowNanos);
+    }
+
+    private long targetMillis(long nowNanos) {
+        return anchorSimulatedMillis + (long) ((nowNanos - anchorNanos) / 1_000_000.0 * getRate());
+    }
+}
@@ -0,0 +1,664 @@
+package com.example.project_csen_275.engine;
+
+import com.example.project_csen_275.GardenLogger;
+import com.example.project_csen_275.GardenSimulationAPI;
+import com.example.project_csen_275.Models.Garden;
+import com.example.project_csen_275.Models.SimulationRandom;
+import com.example.project_csen_275.Models.Plants.NoPlant;
+import com.example.project_csen_275.Models.Plants.PestTable;
+import com.example.project_csen_275.Models.Plants.Plant;
+import com.example.project_csen_275.Models.Plants.Species;
+import com.example.project_csen_275.journal.EventJournal;
+import com.example.project_csen_275.journal.JournalEvent;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless garden simulation engine.
+ * <p>
+ * Owns the automation cycle - garden tick, pest spray and insulation cover
+ * state machines, random pests and weather events - and its metrics, without
+ * any dependency on JavaFX. The engine is confined to one thread: either call
+ * it directly from a single thread (as {@link HeadlessSimulation} does), or
+ * hand work to the engine's own thread with {@link #submit(Runnable)} and
+ * {@link #start()}. While running, the {@link SimulationClock} paces cycles
+ * at real time, a multiple of it, or as fast as possible. Observers such as
+ * the JavaFX controller register a {@link SimulationListener}; callbacks run
+ * on the engine thread.
+ * <p>
+ * Garden events can also be recorded to a binary {@link EventJournal}, either
+ * with {@link #openJournal(Path)} or by setting the system property
+ * {@value #JOURNAL_PROPERTY} to true.
+ */
+public final class SimulationEngine {
+    public static final int IDEAL_TEMP_LOWER = 65;
+    public static final int IDEAL_TEMP_UPPER = 75;
+    public static final String JOURNAL_PROPERTY = "garden.journal";
+    private static final int WATER_EVERY_CYCLES = 6;
+    private static final int EVENT_EVERY_CYCLES = 5;
+    // Two independent ~2% pest rolls per cycle
+    private static final int PEST_ROLLS_PER_CYCLE = 2;
+    private static final int INSULATION_CYCLES = 6;
+    // Longest stretch of back-to-back cycles before queued tasks get a turn
+    private static final long MAX_SLICE_NANOS = 20_000_000;
+
+    private final GardenSimulationAPI simApi;
+    private final Garden garden;
+    private final RandomGenerator automationRandom;
+    private final RandomGenerator eventRandom;
+    private final PestSprayControl pestSpray = new PestSprayControl();
+    private final InsulationCover insulation = new InsulationCover();
+    private final SimulationMetrics metrics = new SimulationMetrics();
+    private final SimulationClock clock = new SimulationClock();
+    private final List<SimulationListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger autoWateredCount = new AtomicInteger();
+    private volatile long cycleCount = 0;
+    private EventJournal journal;
+
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> loop;
+    private volatile boolean running = false;
+    // Bumped on every start so a pump left over from an earlier run stops
+    private volatile int generation = 0;
+
+    public SimulationEngine(GardenSimulationAPI simApi) {
+        this.simApi = simApi;
+        this.garden = simApi.getGarden();
+        this.automationRandom = garden.getRandom().stream(SimulationRandom.Purpose.AUTOMATION);
+        this.eventRandom = garden.getRandom().stream(SimulationRandom.Purpose.EVENTS);
+        if (Boolean.getBoolean(JOURNAL_PROPERTY)) {
+            try {
+                openJournal(EventJournal.defaultPath());
+            } catch (IOException e) {
+                GardenLogger.error("Could not open event journal: {}", e.getMessage());
+            }
+        }
+    }
+
+    public void addListener(SimulationListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(SimulationListener listener) {
+        listeners.remove(listener);
+    }
+
+    public Garden getGarden() {
+        return garden;
+    }
+
+    public GardenSimulationAPI getSimulationApi() {
+        return simApi;
+    }
+
+    public SimulationMetrics getMetrics() {
+        return metrics;
+    }
+
+    public SimulationClock getClock() {
+        return clock;
+    }
+
+    public long getCycleCount() {
+        return cycleCount;
+    }
+
+    public boolean isInsulationActive() {
+        return insulation.isActive();
+    }
+
+    /**
+     * Get and reset the number of plants watered by automation since the last call.
+     */
+    public int takeAutoWateredCount() {
+        return autoWateredCount.getAndSet(0);
+    }
+
+    // ---- Threading ----
+
+    /**
+     * Run a task on the engine thread.
+     *
+     * @return a future completing when the task has run
+     */
+    public synchronized CompletableFuture<Void> submit(Runnable task) {
+        return CompletableFuture.runAsync(task, executor());
+    }
+
+    /**
+     * Start running automation cycles on the engine thread, paced by the clock.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        int gen = ++generation;
+        clock.anchor(System.nanoTime());
+        loop = executor().schedule(() -> pump(gen), clock.nanosUntilNextStep(System.nanoTime()),
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stop running automation cycles. Queued tasks still run.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (loop != null) {
+            loop.cancel(false);
+            loop = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Change how fast cycles run. Takes effect immediately, also while running.
+     *
+     * @param mode  the clock mode
+     * @param speed multiple of real time, only used in {@link SimulationClock.Mode#SCALED} mode
+     */
+    public synchronized void setPace(SimulationClock.Mode mode, double speed) {
+        if (mode == SimulationClock.Mode.SCALED) {
+            clock.setSpeed(speed);
+        } else {
+            clock.setMode(mode);
+        }
+        if (running) {
+            // Drop the pending pump, which may be waiting on the old pace
+            stop();
+            start();
+        }
+    }
+
+    /**
+     * Run the cycles that are due, then reschedule for the next one. Each pump
+     * is bounded in time so tasks submitted meanwhile are not starved, even in
+     * unbounded mode.
+     */
+    private void pump(int gen) {
+        long sliceEnd = System.nanoTime() + MAX_SLICE_NANOS;
+        try {
+            long now = System.nanoTime();
+            while (running && gen == generation && now < sliceEnd && clock.isStepDue(now)) {
+                runCycle();
+                now = System.nanoTime();
+            }
+        } catch (Exception ex) {
+            GardenLogger.error("Automation update failed - Error: {}", ex.getMessage());
+        }
+        synchronized (this) {
+            if (running && gen == generation && executor != null) {
+                long delay = clock.nanosUntilNextStep(System.nanoTime());
+                loop = executor.schedule(() -> pump(gen), delay, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Stop the engine thread, waiting briefly for queued work to finish.
+     */
+    public void shutdown() throws InterruptedException {
+        ScheduledExecutorService toStop;
+        synchronized (this) {
+            stop();
+            toStop = executor;
+            executor = null;
+        }
+        if (toStop != null) {
+            toStop.shutdown();
+            if (!toStop.awaitTermination(3, TimeUnit.SECONDS)) {
+                toStop.shutdownNow();
+                GardenLogger.warning("Simulation engine forced shutdown");
+            }
+        }
+        closeJournal();
+    }
+
+    private ScheduledExecutorService executor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "GardenEngine");
+                thread.setDaemon(true); // Don't prevent JVM shutdown
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    // ---- Event journal ----
+
+    /**
+     * Start recording garden events to a new journal file, closing any
+     * journal already open. Call on the engine thread or while it is stopped.
+     */
+    public void openJournal(Path path) throws IOException {
+        closeJournal();
+        journal = EventJournal.open(path, garden.getRows(), garden.getCols(),
+                garden.getRandom().getSeed(), (int) clock.getStepMillis());
+        garden.setJournal(journal);
+        GardenLogger.info("Recording garden events to {}", path);
+    }
+
+    /**
+     * Stop recording and close the journal, if one is open.
+     */
+    public void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        garden.setJournal(null);
+        try {
+            journal.close();
+        } catch (IOException e) {
+            GardenLogger.error("Error closing event journal: {}", e.getMessage());
+        }
+        journal = null;
+    }
+
+    /**
+     * Get the open journal, or null if events are not being recorded
+     */
+    public EventJournal getJournal() {
+        return journal;
+    }
+
+    // ---- Simulation ----
+
+    /**
+     * Run one full automation cycle: garden tick, pest spray, watering, random
+     * pests, temperature regulation and, every few cycles, a random event.
+     */
+    public void runCycle() {
+        long start = System.nanoTime();
+        long cycle = ++cycleCount;
+        clock.advance();
+
+        garden.updateGardenState();
+
+        // If a pest was just added last cycle, deploy the spray
+        if (pestSpray.deployIfPending()) {
+            String deployMsg = "Deploying Anti-pest spray for " + pestSpray.getCyclesLeft() + " cycles!";
+            GardenLogger.event(deployMsg);
+            notifyStatus(null, deployMsg);
+        }
+
+        // Execute spray if active, collect positions to animate
+        boolean sprayWasActive = pestSpray.isActive();
+        int[] sprayedCells = pestSpray.apply(garden);
+        if (sprayWasActive && !pestSpray.isActive()) {
+            String endMsg = "Pest spray ended.";
+            GardenLogger.event(endMsg);
+            notifyStatus(null, endMsg);
+        }
+
+        // Random watering every few cycles
+        if (cycle % WATER_EVERY_CYCLES == 0) {
+            int watered = waterRandomPlants();
+            autoWateredCount.addAndGet(watered);
+            garden.recordEvent(watered, JournalEvent.AUTO_WATERED, 0, 0);
+        }
+
+        // Random pest addition
+        for (int roll = 0; roll < PEST_ROLLS_PER_CYCLE; roll++) {
+            spawnRandomPest();
+        }
+
+        // Apply temperature effects
+        regulateTemperature();
+
+        // Every few cycles, trigger a random event
+        if (cycle % EVENT_EVERY_CYCLES == 0) {
+            triggerRandomEvent();
+        }
+
+        metrics.recordCycle(System.nanoTime() - start);
+        TickReport report = new TickReport(cycle, true, sprayedCells);
+        for (SimulationListener listener : listeners) {
+            listener.onTick(report);
+        }
+    }
+
+    /**
+     * Run several automation cycles back to back on the calling thread.
+     */
+    public void runCycles(int count) {
+        for (int i = 0; i < count; i++) {
+            runCycle();
+        }
+    }
+
+    /**
+     * Update the garden once without any of the automation behaviour.
+     */
+    public void updateGarden() {
+        garden.updateGardenState();
+        metrics.recordManualUpdate();
+        TickReport report = new TickReport(cycleCount, false, new int[0]);
+        for (SimulationListener listener : listeners) {
+            listener.onTick(report);
+        }
+    }
+
+    private int waterRandomPlants() {
+        int[] count = { 0 };
+        garden.forEachPlant((r, c, plant) -> {
+            if (plant.getHealth() > 0 && automationRandom.nextInt(4) == 0) {
+                garden.waterPlant(plant);
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * Roll for a new pest (approx 2% chance) on a random plant.
+     */
+    private void spawnRandomPest() {
+        if (automationRandom.nextInt(50) != 0) {
+            return;
+        }
+        int row = automationRandom.nextInt(garden.getRows());
+        int col = automationRandom.nextInt(garden.getCols());
+        Plant plant = garden.getPlant(row, col);
+        if (!(plant instanceof NoPlant) && !plant.hasPest() && plant.getHealth() > 0) {
+            // Choose a random pest from this plant's vulnerabilities
+            Species species = plant.getSpecies();
+            if (species.getParasiteCount() > 0) {
+                int pestId = species.getParasiteId(automationRandom.nextInt(species.getParasiteCount()));
+                String pestName = PestTable.nameOf(pestId);
+                plant.setPestId(pestId);
+                // Schedule pest spray next cycle
+                pestSpray.schedule();
+                String logMsg = "Parasite " + GardenSimulationAPI.formatPestName(pestName) + " appeared on "
+                        + plant.getName() + " at Row " + (row + 1) + ", Column " + (col + 1);
+                GardenLogger.warning(logMsg);
+                garden.recordEvent(row * garden.getCols() + col, JournalEvent.PEST_APPEARED,
+                        species.getId(), pestId);
+                notifyStatus(null, logMsg);
+            }
+        }
+    }
+
+    private void regulateTemperature() {
+        // Activate delayed insulation cover if pending
+        if (insulation.engageIfPending()) {
+            GardenLogger.event("Insulation cover engaged for {} cycles.", insulation.getCyclesLeft());
+        }
+        // Apply frost stress penalty every cycle if below ideal
+        int temp = garden.getCurrentTemperature();
+        if (temp < IDEAL_TEMP_LOWER) {
+            int[] penaltyCount = { 0 };
+            garden.forEachPlant((r, c, plant) -> {
+                if (plant.getHealth() > 0) {
+                    plant.setHealth(Math.max(0, plant.getHealth() - 2));
+                    penaltyCount[0]++;
+                }
+            });
+            GardenLogger.warning("{} plants took -2 health due to low temperature ({}°F)", penaltyCount[0], temp);
+        }
+
+        // Insulation cover effect: restore 1°F per cycle until ideal is reached
+        if (insulation.isActive()) {
+            int currentTemp = garden.getCurrentTemperature();
+            if (currentTemp < IDEAL_TEMP_LOWER) {
+                garden.temperature(Math.min(currentTemp + 1, IDEAL_TEMP_LOWER));
+            } else {
+                // Ideal reached; disable insulation cover
+                insulation.release();
+                GardenLogger.event("Insulation cover effect ended – temperature regulation normal.");
+            }
+        }
+    }
+
+    // ---- User actions ----
+
+    /**
+     * Water every living plant.
+     *
+     * @return flat indices of the watered cells
+     */
+    public int[] waterAll() {
+        CellList watered = new CellList();
+        // Only water actual plants, not empty soil
+        garden.forEachPlant((r, c, plant) -> {
+            if (plant.getHealth() > 0) {
+                garden.waterPlant(plant);
+                watered.add(r * garden.getCols() + c);
+            }
+        });
+        garden.recordEvent(watered.size(), JournalEvent.WATERED, 0, 0);
+        return watered.toArray();
+    }
+
+    /**
+     * Add a pest to a random vulnerable plant and schedule a spray.
+     *
+     * @return true if a pest was added
+     */
+    public boolean addPestToRandomPlant() {
+        for (int attempts = 0; attempts < 10; attempts++) {
+            int row = eventRandom.nextInt(garden.getRows());
+            int col = eventRandom.nextInt(garden.getCols());
+            Plant plant = garden.getPlant(row, col);
+            if (!(plant instanceof NoPlant) && plant.getHealth() > 0 && !plant.hasPest()) {
+                // Pick a random pest based on vulnerability
+                Species species = plant.getSpecies();
+                if (species.getParasiteCount() > 0) {
+                    int pestId = species.getParasiteId(eventRandom.nextInt(species.getParasiteCount()));
+                    String pestName = PestTable.nameOf(pestId);
+                    plant.setPestId(pestId);
+                    // Schedule spray next cycle
+                    pestSpray.schedule();
+                    String msg = "Parasite " + GardenSimulationAPI.formatPestName(pestName) + " added to "
+                            + plant.getName() + " at Row " + (row + 1) + ", Column " + (col + 1);
+                    GardenLogger.warning(msg);
+                    garden.recordEvent(row * garden.getCols() + col, JournalEvent.PEST_ADDED,
+                            species.getId(), pestId);
+                    notifyStatus("WARNING", msg);
+                    return true;
+                }
+            }
+        }
+        String noMsg = "No suitable plants found for pest infestation!";
+        GardenLogger.warning(noMsg);
+        notifyStatus(null, noMsg);
+        return false;
+    }
+
+    /**
+     * Remove every pest and stop any ongoing or scheduled spray.
+     *
+     * @return number of pests removed
+     */
+    public int removeAllPests() {
+        int[] removed = { 0 };
+        garden.forEachPlant((r, c, plant) -> {
+            if (plant.hasPest()) {
+                plant.setHasPest(false);
+                removed[0]++;
+                if (GardenLogger.isCellLogEnabled(GardenLogger.Level.INFO)) {
+                    GardenLogger.info("Removed pest from {} at Row {}, Column {}", plant.getName(), r + 1, c + 1);
+                }
+            }
+        });
+        int count = removed[0];
+        String message = "Removed " + count + " pests from the garden!";
+        GardenLogger.event(message);
+        garden.recordEvent(count, JournalEvent.PESTS_REMOVED, 0, 0);
+        notifyStatus(null, message);
+        pestSpray.cancel();
+        return count;
+    }
+
+    // ---- Events ----
+
+    /**
+     * Trigger a randomly chosen garden-wide event.
+     */
+    public EventReport triggerRandomEvent() {
+        WeatherEvent[] events = WeatherEvent.values();
+        return triggerEvent(events[eventRandom.nextInt(events.length)]);
+    }
+
+    /**
+     * Trigger a specific garden-wide event.
+     */
+    public EventReport triggerEvent(WeatherEvent event) {
+        EventReport report = switch (event) {
+            case SUNNY_DAY -> sunnyDay();
+            case RAINY_DAY -> rainyDay();
+            case PEST_INFESTATION -> pestInfestation();
+            case PERFECT_GROWTH -> perfectGrowth();
+            case GARDENER_VISIT -> gardenerVisit();
+            case CHILLY_DAY -> chillyDay();
+        };
+        metrics.recordEvent();
+        for (SimulationListener listener : listeners) {
+            listener.onEvent(report);
+        }
+        return report;
+    }
+
+    private EventReport sunnyDay() {
+        // Extra drying
+        garden.dryOutAll();
+        // Increase temperature above ideal range (e.g., 76-90°F)
+        int sunnyTemp = IDEAL_TEMP_UPPER + 1 + eventRandom.nextInt(15);
+        garden.temperature(sunnyTemp);
+        String message = "It's a sunny day! Temperature rose to " + sunnyTemp + "°F, plants are drying faster.";
+        GardenLogger.event(message);
+        // Cancel any pending or active insulation cover
+        if (insulation.cancel()) {
+            GardenLogger.event("Insulation cover canceled due to sunny day.");
+        }
+        return new EventReport(WeatherEvent.SUNNY_DAY, "EVENT", message, livingCells());
+    }
+
+    private EventReport chillyDay() {
+        // Drop temperature below ideal range (e.g., 55-64°F)
+        int coldTemp = IDEAL_TEMP_LOWER - 1 - eventRandom.nextInt(10);
+        garden.temperature(coldTemp);
+        // Schedule insulation cover activation next cycle
+        insulation.schedule(INSULATION_CYCLES);
+        String message = "Chilly day! Temp dropped to " + coldTemp + "°F. " +
+                "Insulation cover will engage next cycle (" + insulation.getCyclesLeft() + " cycles total).";
+        GardenLogger.event(message);
+        return new EventReport(WeatherEvent.CHILLY_DAY, "EVENT", message, livingCells());
+    }
+
+    private EventReport rainyDay() {
+        // Delegate to simulation API for rain
+        int rainCount = simApi.rain();
+        String message = "It's raining! " + rainCount + " plants have been watered.";
+        GardenLogger.event(message);
+        return new EventReport(WeatherEvent.RAINY_DAY, "EVENT", message, livingCells());
+    }
+
+    private EventReport pestInfestation() {
+        CellList infested = new CellList();
+        Map<String, Integer> infestSummary = new HashMap<>();
+        garden.forEachPlant((r, c, plant) -> {
+            // 10% chance per plant
+            if (eventRandom.nextInt(10) == 0) {
+                // choose a pest from vulnerabilities
+                Species species = plant.getSpecies();
+                if (species.getParasiteCount() > 0) {
+                    int pestId = species.getParasiteId(eventRandom.nextInt(species.getParasiteCount()));
+                    String pest = PestTable.nameOf(pestId);
+                    plant.setPestId(pestId);
+                    infested.add(r * garden.getCols() + c);
+                    infestSummary.merge(pest, 1, Integer::sum);
+                }
+            }
+        });
+        int pestCount = infested.size();
+        // Build message listing pest types
+        StringBuilder msg = new StringBuilder("Oh no! Pest infestation: ");
+        msg.append(pestCount).append(" plants were infested");
+        if (!infestSummary.isEmpty()) {
+            msg.append(" (");
+            infestSummary.forEach((p, count) -> msg.append(GardenSimulationAPI.formatPestName(p))
+                    .append(" x").append(count).append(", "));
+            // remove trailing comma and space
+            msg.setLength(msg.length() - 2);
+            msg.append(")");
+        }
+        String message = msg.toString();
+        // Schedule pest spray next cycle
+        pestSpray.schedule();
+        GardenLogger.warning(message);
+        return new EventReport(WeatherEvent.PEST_INFESTATION, "WARNING", message, infested.toArray());
+    }
+
+    private EventReport perfectGrowth() {
+        int[] healthy = { 0 };
+        garden.forEachPlant((r, c, plant) -> {
+            // Only water actual plants, not empty soil
+            if (plant.getHealth() > 0) {
+                // No direct way to increase health, so we'll water them well
+                garden.waterPlant(plant);
+                garden.waterPlant(plant);
+                healthy[0]++;
+            }
+        });
+        int healthyPlantCount = healthy[0];
+        // Restore temperature to ideal midpoint
+        int idealTemp = (IDEAL_TEMP_LOWER + IDEAL_TEMP_UPPER) / 2;
+        garden.temperature(idealTemp);
+        String message = "Perfect 🌸growing conditions today! " + healthyPlantCount
+                + " plants are thriving, and temperature restored to " + idealTemp + "°F.";
+        GardenLogger.info(message);
+        return new EventReport(WeatherEvent.PERFECT_GROWTH, "INFO", message, livingCells());
+    }
+
+    private EventReport gardenerVisit() {
+        int[] pestsRemoved = { 0 };
+        CellList visited = new CellList();
+        // Only care about actual plants, not empty soil
+        garden.forEachPlant((r, c, plant) -> {
+            if (plant.getHealth() > 0) {
+                if (plant.hasPest()) {
+                    plant.setHasPest(false);
+                    pestsRemoved[0]++;
+                }
+                garden.waterPlant(plant);
+                visited.add(r * garden.getCols() + c);
+            }
+        });
+        String message = "A gardener visited! Removed " + pestsRemoved[0] + " pests and watered "
+                + visited.size() + " plants.";
+        GardenLogger.info(message);
+        return new EventReport(WeatherEvent.GARDENER_VISIT, "INFO", message, visited.toArray());
+    }
+
+    private int[] livingCells() {
+        CellList living = new CellList();
+        garden.forEachPlant((r, c, plant) -> {
+            if (plant.getHealth() > 0) {
+                living.add(r * garden.getCols() + c);
+            }
+        });
+        return living.toArray();
+    }
+
+    private void notifyStatus(String level, String message) {
+        for (SimulationListener listener : listeners) {
+            listener.onStatus(level, message);
+        }
+    }
+}
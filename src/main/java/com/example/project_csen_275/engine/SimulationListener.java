@@ -0,0 +1,29 @@
+package com.example.project_csen_275.engine;
+
+/**
+ * Observer of a {@link SimulationEngine}. Callbacks run on the engine thread,
+ * so UI subscribers must hand work over to their own thread.
+ */
+public interface SimulationListener {
+
+    /**
+     * Called after each garden update.
+     */
+    default void onTick(TickReport report) {
+    }
+
+    /**
+     * Called after a garden-wide event has been applied.
+     */
+    default void onEvent(EventReport report) {
+    }
+
+    /**
+     * Called with a status message for the user.
+     *
+     * @param level   log level for styling, or null for a plain message
+     * @param message the message
+     */
+    default void onStatus(String level, String message) {
+    }
+}
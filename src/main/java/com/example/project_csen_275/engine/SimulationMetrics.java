@@ -0,0 +1,65 @@
+package com.example.project_csen_275.engine;
+
+/**
+ * Counters and timings collected by the {@link SimulationEngine}. Written by
+ * the engine thread only; readable from any thread.
+ */
+public class SimulationMetrics {
+    private volatile long cycles = 0;
+    private volatile long manualUpdates = 0;
+    private volatile long events = 0;
+    private volatile long totalCycleNanos = 0;
+    private volatile long maxCycleNanos = 0;
+    private volatile long lastCycleNanos = 0;
+
+    void recordCycle(long nanos) {
+        cycles++;
+        totalCycleNanos += nanos;
+        lastCycleNanos = nanos;
+        if (nanos > maxCycleNanos) {
+            maxCycleNanos = nanos;
+        }
+    }
+
+    void recordManualUpdate() {
+        manualUpdates++;
+    }
+
+    void recordEvent() {
+        events++;
+    }
+
+    public long getCycles() {
+        return cycles;
+    }
+
+    public long getManualUpdates() {
+        return manualUpdates;
+    }
+
+    public long getEvents() {
+        return events;
+    }
+
+    public long getLastCycleNanos() {
+        return lastCycleNanos;
+    }
+
+    public long getMaxCycleNanos() {
+        return maxCycleNanos;
+    }
+
+    /**
+     * Get the mean time spent in one automation cycle.
+     */
+    public double getAverageCycleNanos() {
+        long count = cycles;
+        return count == 0 ? 0 : (double) totalCycleNanos / count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("cycles=%d, manualUpdates=%d, events=%d, avgCycle=%.1fµs, maxCycle=%.1fµs",
+                cycles, manualUpdates, events, getAverageCycleNanos() / 1000.0, maxCycleNanos / 1000.0);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.project_csen_275.engine;
+
+/**
+ * Outcome of one garden update.
+ *
+ * @param cycle        automation cycle number (0 for manual updates before automation ran)
+ * @param automated    true for a full automation cycle, false for a manual garden update
+ * @param sprayedCells flat indices of the cells hit by pest spray this cycle
+ */
+public record TickReport(long cycle, boolean automated, int[] sprayedCells) {
+}
@@ -0,0 +1,37 @@
+package com.example.project_csen_275.engine;
+
+/**
+ * Garden-wide events the engine can trigger, in the order used for random picks.
+ */
+public enum WeatherEvent {
+    SUNNY_DAY("Sunny Day"),
+    RAINY_DAY("Rainy Day"),
+    PEST_INFESTATION("Pest Infestation"),
+    PERFECT_GROWTH("Perfect Growth"),
+    GARDENER_VISIT("Gardener Visit"),
+    CHILLY_DAY("Chilly Day");
+
+    private final String displayName;
+
+    WeatherEvent(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Look up an event by the name shown in the UI.
+     *
+     * @return the event, or null if the name is unknown
+     */
+    public static WeatherEvent fromDisplayName(String name) {
+        for (WeatherEvent event : values()) {
+            if (event.displayName.equals(name)) {
+                return event;
+            }
+        }
+        return null;
+    }
+}
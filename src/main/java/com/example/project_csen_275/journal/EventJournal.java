@@ -0,0 +1,254 @@
+package com.example.project_csen_275.journal;
+
+import com.example.project_csen_275.GardenLogger;
+import com.example.project_csen_275.Models.Plants.PestTable;
+import com.example.project_csen_275.Models.Plants.SpeciesTable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Append-only binary journal of garden events.
+ * <p>
+ * Every event is a fixed {@value #RECORD_BYTES}-byte record: tick (int),
+ * cell (int), {@link JournalEvent} code (byte), species ID (byte) and value
+ * (short). The first time a species or pest ID appears, its name is written
+ * as a definition record so the journal can be read by another run, where the
+ * IDs may differ. Records are collected in memory and appended to the file
+ * channel in large writes; {@link EventJournalReader} reads them back.
+ * <p>
+ * Not thread-safe. Use it from the simulation thread; parallel band ticks
+ * record into their own {@link Buffer}, which are merged with
+ * {@link #append(Buffer)} in band order so the file does not depend on
+ * thread timing.
+ */
+public final class EventJournal implements AutoCloseable {
+    public static final int RECORD_BYTES = 12;
+    public static final String FILE_EXTENSION = ".gj";
+    static final int MAGIC = 0x474A4E4C; // "GJNL"
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 36;
+    // Definition records, followed by the name padded to whole records
+    static final byte DEFINE_SPECIES = 0x70;
+    static final byte DEFINE_PEST = 0x71;
+
+    private static final int FLUSH_BYTES = 256 * 1024;
+    private static final String LOG_DIRECTORY = "logs";
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Buffer pending = new Buffer(FLUSH_BYTES + 4096);
+    private final boolean[] speciesDefined = new boolean[256];
+    private final boolean[] pestDefined = new boolean[256];
+    private long recordCount = 0;
+    private boolean failed = false;
+
+    private EventJournal(Path path, FileChannel channel) {
+        this.path = path;
+        this.channel = channel;
+    }
+
+    /**
+     * Create a journal file, replacing any existing file at the path.
+     *
+     * @param path       The file to write
+     * @param rows       Garden rows, used to turn cells back into positions
+     * @param cols       Garden columns
+     * @param seed       Seed of the simulation RNG
+     * @param stepMillis Simulated milliseconds per tick
+     */
+    public static EventJournal open(Path path, int rows, int cols, long seed, int stepMillis) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) RECORD_BYTES)
+                .putInt(rows)
+                .putInt(cols)
+                .putLong(seed)
+                .putLong(System.currentTimeMillis())
+                .putInt(stepMillis)
+                .flip();
+        try {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new EventJournal(path, channel);
+    }
+
+    /**
+     * Get a new journal path in the logs directory, named after the current
+     * time. Creates the directory if needed.
+     */
+    public static Path defaultPath() throws IOException {
+        File logDir = new File(LOG_DIRECTORY);
+        if (!logDir.exists() && !logDir.mkdir()) {
+            throw new IOException("Could not create logs directory at " + logDir.getAbsolutePath());
+        }
+        return Paths.get(LOG_DIRECTORY, "garden_journal_" + FILE_TIME_FORMAT.format(LocalDateTime.now())
+                + FILE_EXTENSION);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Get the number of event records written so far
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Record one event.
+     *
+     * @param tick    Garden tick the event happened in
+     * @param cell    Flat cell index, or the plant count for garden-wide events
+     * @param type    The event type
+     * @param species Species ID, 0 if none
+     * @param value   Pest ID or temperature, depending on the type
+     */
+    public void record(long tick, int cell, JournalEvent type, int species, int value) {
+        if (failed) {
+            return;
+        }
+        define(type, species, value);
+        pending.record(tick, cell, type, species, value);
+        recordCount++;
+        if (pending.bytes.position() >= FLUSH_BYTES) {
+            flush();
+        }
+    }
+
+    /**
+     * Move the records of a band buffer into the journal and clear the buffer.
+     */
+    public void append(Buffer buffer) {
+        if (failed || buffer.isEmpty()) {
+            buffer.clear();
+            return;
+        }
+        ByteBuffer records = buffer.bytes.flip();
+        // Define any species or pest seen for the first time
+        for (int offset = 0; offset < records.limit(); offset += RECORD_BYTES) {
+            JournalEvent type = JournalEvent.fromCode(records.get(offset + 8));
+            define(type, records.get(offset + 9) & 0xFF, records.getShort(offset + 10));
+        }
+        recordCount += records.limit() / RECORD_BYTES;
+        pending.ensureCapacity(records.remaining());
+        pending.bytes.put(records);
+        buffer.clear();
+        if (pending.bytes.position() >= FLUSH_BYTES) {
+            flush();
+        }
+    }
+
+    /**
+     * Write buffered records to the file.
+     */
+    public void flush() {
+        if (failed) {
+            return;
+        }
+        ByteBuffer bytes = pending.bytes.flip();
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            // Keep the simulation running without the journal
+            failed = true;
+            GardenLogger.error("Event journal write failed, journaling stopped: " + e.getMessage());
+        } finally {
+            pending.clear();
+        }
+    }
+
+    /**
+     * Flush and close the file.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private void define(JournalEvent type, int species, int value) {
+        if (species != 0 && !speciesDefined[species]) {
+            speciesDefined[species] = true;
+            writeDefinition(DEFINE_SPECIES, species, SpeciesTable.nameOf(species));
+        }
+        if (type.hasPest() && value > 0 && value < pestDefined.length && !pestDefined[value]) {
+            pestDefined[value] = true;
+            writeDefinition(DEFINE_PEST, value, PestTable.nameOf(value));
+        }
+    }
+
+    private void writeDefinition(byte kind, int id, String name) {
+        byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+        int padded = paddedLength(utf8.length);
+        pending.ensureCapacity(RECORD_BYTES + padded);
+        pending.bytes.putInt(0).putInt(utf8.length).put(kind).put((byte) id).putShort((short) 0)
+                .put(utf8).put(new byte[padded - utf8.length]);
+    }
+
+    /**
+     * Round a name length up to whole records
+     */
+    static int paddedLength(int length) {
+        return (length + RECORD_BYTES - 1) / RECORD_BYTES * RECORD_BYTES;
+    }
+
+    /**
+     * In-memory run of records, used by each band of a parallel tick.
+     */
+    public static final class Buffer {
+        private ByteBuffer bytes;
+
+        public Buffer() {
+            this(4096);
+        }
+
+        private Buffer(int capacity) {
+            bytes = ByteBuffer.allocate(capacity);
+        }
+
+        /**
+         * Record one event; see {@link EventJournal#record}.
+         */
+        public void record(long tick, int cell, JournalEvent type, int species, int value) {
+            ensureCapacity(RECORD_BYTES);
+            bytes.putInt((int) tick).putInt(cell).put(type.code).put((byte) species).putShort((short) value);
+        }
+
+        public boolean isEmpty() {
+            return bytes.position() == 0;
+        }
+
+        void clear() {
+            bytes.clear();
+        }
+
+        private void ensureCapacity(int extra) {
+            if (bytes.remaining() < extra) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(bytes.capacity() * 2, bytes.position() + extra));
+                bytes = grown.put(bytes.flip());
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.example.project_csen_275.journal;
+
+import com.example.project_csen_275.GardenLogger.Level;
+import com.example.project_csen_275.GardenSimulationAPI;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Streams the records of an {@link EventJournal} file.
+ * <p>
+ * The file is memory-mapped in large windows and read as a cursor: call
+ * {@link #next()} and then read the current record through the accessors,
+ * so reading allocates nothing per event. A partial record at the end of
+ * the file (for example after a crash) is ignored.
+ *
+ * <pre>{@code
+ * try (EventJournalReader reader = EventJournalReader.open(path)) {
+ *     while (reader.next()) {
+ *         if (reader.type() == JournalEvent.DIED) deaths++;
+ *     }
+ * }
+ * }</pre>
+ */
+public final class EventJournalReader implements AutoCloseable {
+    private static final long WINDOW_BYTES = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int rows;
+    private final int cols;
+    private final long seed;
+    private final long startMillis;
+    private final int stepMillis;
+    private final String[] speciesNames = new String[256];
+    private final String[] pestNames = new String[256];
+
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    // Current record
+    private int tick;
+    private int cell;
+    private JournalEvent type;
+    private int species;
+    private int value;
+
+    private EventJournalReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.fileSize = channel.size();
+        if (fileSize < EventJournal.HEADER_BYTES) {
+            throw new IOException("Not an event journal: file too short");
+        }
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, EventJournal.HEADER_BYTES);
+        if (header.getInt() != EventJournal.MAGIC) {
+            throw new IOException("Not an event journal: bad magic number");
+        }
+        short version = header.getShort();
+        short recordBytes = header.getShort();
+        if (version != EventJournal.VERSION || recordBytes != EventJournal.RECORD_BYTES) {
+            throw new IOException("Unsupported event journal version " + version);
+        }
+        rows = header.getInt();
+        cols = header.getInt();
+        seed = header.getLong();
+        startMillis = header.getLong();
+        stepMillis = header.getInt();
+        map(EventJournal.HEADER_BYTES);
+    }
+
+    /**
+     * Open a journal file for reading
+     */
+    public static EventJournalReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new EventJournalReader(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Get the wall-clock time the journal was created, in epoch milliseconds
+     */
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * Get the simulated milliseconds per tick
+     */
+    public int getStepMillis() {
+        return stepMillis;
+    }
+
+    /**
+     * Move to the next event.
+     *
+     * @return false at the end of the journal
+     */
+    public boolean next() throws IOException {
+        while (ensure(EventJournal.RECORD_BYTES)) {
+            tick = window.getInt();
+            cell = window.getInt();
+            byte code = window.get();
+            species = window.get() & 0xFF;
+            value = window.getShort();
+
+            if (code == EventJournal.DEFINE_SPECIES || code == EventJournal.DEFINE_PEST) {
+                readDefinition(code == EventJournal.DEFINE_SPECIES ? speciesNames : pestNames);
+                continue;
+            }
+            type = JournalEvent.fromCode(code);
+            if (type == null) {
+                throw new IOException("Unknown journal record type " + code + " at offset "
+                        + (windowStart + window.position() - EventJournal.RECORD_BYTES));
+            }
+            return true;
+        }
+        return false;
+    }
+
+    public int tick() {
+        return tick;
+    }
+
+    /**
+     * Get the flat cell index; for garden-wide events use {@link #count()}
+     */
+    public int cell() {
+        return cell;
+    }
+
+    public int row() {
+        return cell / cols;
+    }
+
+    public int col() {
+        return cell % cols;
+    }
+
+    /**
+     * Get the number of plants affected by a garden-wide event
+     */
+    public int count() {
+        return cell;
+    }
+
+    public JournalEvent type() {
+        return type;
+    }
+
+    public int species() {
+        return species;
+    }
+
+    public int value() {
+        return value;
+    }
+
+    public String speciesName() {
+        String name = speciesNames[species];
+        return name != null ? name : "Species " + species;
+    }
+
+    public String pestName() {
+        String name = value > 0 && value < pestNames.length ? pestNames[value] : null;
+        return name != null ? GardenSimulationAPI.formatPestName(name) : "Pest " + value;
+    }
+
+    /**
+     * Append the current event as a log line, in the same wording as the
+     * text log but stamped with the tick instead of the wall-clock time.
+     */
+    public void formatLine(StringBuilder out) {
+        Level level = type.getLevel();
+        out.append("Cycle ").append(tick).append(' ').append(level.getEmoji())
+                .append('[').append(level.name()).append("] ");
+        switch (type) {
+            case PLANTED -> out.append("Planted ").append(speciesName()).append(" at position ");
+            case CLEARED -> out.append("Cleared position ");
+            case DIED -> out.append(speciesName()).append(" at position ");
+            case REPLANTED -> out.append("Automatically planted ").append(speciesName()).append(" at position ");
+            case RAIN -> out.append("Rainfall: watered ").append(count()).append(" plants.");
+            case HEAT_WAVE -> out.append("Heat wave! ").append(count())
+                    .append(" plants affected by high temperature (").append(value)
+                    .append("°F) - different plants respond differently");
+            case FROST -> out.append("Frost damage! ").append(count())
+                    .append(" plants lost health due to low temperature (").append(value).append("°F)");
+            case IDEAL_TEMPERATURE -> out.append("Ideal temperature: ").append(value).append("°F. No stress applied.");
+            case PARASITE -> out.append("Parasite ").append(pestName()).append(" infested ").append(count())
+                    .append(" plants.");
+            case PEST_APPEARED -> out.append("Parasite ").append(pestName()).append(" appeared on ")
+                    .append(speciesName());
+            case PEST_ADDED -> out.append("Parasite ").append(pestName()).append(" added to ").append(speciesName());
+            case PESTS_REMOVED -> out.append("Removed ").append(count()).append(" pests from the garden!");
+            case WATERED -> out.append("Watered ").append(count()).append(" plants!");
+            case AUTO_WATERED -> out.append("Automatically watered ").append(count()).append(" plants");
+        }
+        switch (type) {
+            case PLANTED, CLEARED, REPLANTED -> out.append('[').append(row()).append(',').append(col()).append(']');
+            case DIED -> out.append('[').append(row()).append(',').append(col()).append("] died and will respawn soon");
+            case PEST_APPEARED, PEST_ADDED -> out.append(" at Row ").append(row() + 1)
+                    .append(", Column ").append(col() + 1);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Render a journal as text log lines.
+     *
+     * @param path   The journal file
+     * @param out    Where to append the lines
+     * @param levels Levels to include
+     * @return number of lines written
+     */
+    public static long writeText(Path path, Appendable out, Set<Level> levels) throws IOException {
+        long lines = 0;
+        StringBuilder line = new StringBuilder(128);
+        try (EventJournalReader reader = open(path)) {
+            while (reader.next()) {
+                if (levels.contains(reader.type().getLevel())) {
+                    line.setLength(0);
+                    reader.formatLine(line);
+                    out.append(line).append('\n');
+                    lines++;
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Render a whole journal as text log lines
+     */
+    public static String toText(Path path) throws IOException {
+        StringBuilder text = new StringBuilder();
+        writeText(path, text, EnumSet.allOf(Level.class));
+        return text.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void readDefinition(String[] names) throws IOException {
+        int length = cell;
+        int padded = EventJournal.paddedLength(length);
+        if (length < 0 || !ensure(padded)) {
+            throw new IOException("Truncated name definition in event journal");
+        }
+        byte[] utf8 = new byte[length];
+        window.get(utf8);
+        window.position(window.position() + padded - length);
+        names[species] = new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Make sure the window holds at least the given number of bytes,
+     * remapping it at the current position if needed.
+     *
+     * @return false if the file has fewer bytes left
+     */
+    private boolean ensure(int bytes) throws IOException {
+        if (window.remaining() >= bytes) {
+            return true;
+        }
+        long position = windowStart + window.position();
+        if (fileSize - position < bytes) {
+            return false;
+        }
+        map(position);
+        return true;
+    }
+
+    private void map(long position) throws IOException {
+        windowStart = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_BYTES, fileSize - position));
+    }
+}
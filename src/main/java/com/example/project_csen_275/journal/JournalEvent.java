@@ -0,0 +1,79 @@
+package com.example.project_csen_275.journal;
+
+import com.example.project_csen_275.GardenLogger.Level;
+
+/**
+ * Types of events recorded in the {@link EventJournal}.
+ * <p>
+ * Each record has a tick, a cell, a species and a value. Garden-wide events
+ * have no cell; they store the number of plants affected in the cell field
+ * instead. Pest events store the pest ID in the value field, temperature
+ * events the temperature in °F.
+ */
+public enum JournalEvent {
+    PLANTED(1, Level.INFO, false, false),
+    CLEARED(2, Level.INFO, false, false),
+    DIED(3, Level.WARNING, false, false),
+    REPLANTED(4, Level.INFO, false, false),
+    RAIN(5, Level.EVENT, true, false),
+    HEAT_WAVE(6, Level.WARNING, true, false),
+    FROST(7, Level.WARNING, true, false),
+    IDEAL_TEMPERATURE(8, Level.EVENT, true, false),
+    PARASITE(9, Level.WARNING, true, true),
+    PEST_APPEARED(10, Level.WARNING, false, true),
+    PEST_ADDED(11, Level.WARNING, false, true),
+    PESTS_REMOVED(12, Level.EVENT, true, false),
+    WATERED(13, Level.INFO, true, false),
+    AUTO_WATERED(14, Level.INFO, true, false);
+
+    private static final JournalEvent[] BY_CODE = new JournalEvent[128];
+
+    static {
+        for (JournalEvent event : values()) {
+            BY_CODE[event.code] = event;
+        }
+    }
+
+    // Stored in the file; never renumber
+    final byte code;
+    private final Level level;
+    private final boolean gardenWide;
+    private final boolean hasPest;
+
+    JournalEvent(int code, Level level, boolean gardenWide, boolean hasPest) {
+        this.code = (byte) code;
+        this.level = level;
+        this.gardenWide = gardenWide;
+        this.hasPest = hasPest;
+    }
+
+    /**
+     * Get the log level this event is shown with
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Check whether the cell field holds a plant count instead of a cell
+     */
+    public boolean isGardenWide() {
+        return gardenWide;
+    }
+
+    /**
+     * Check whether the value field holds a pest ID
+     */
+    public boolean hasPest() {
+        return hasPest;
+    }
+
+    /**
+     * Look up an event type by its stored code
+     *
+     * @return the event type, or null for an unknown code
+     */
+    static JournalEvent fromCode(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
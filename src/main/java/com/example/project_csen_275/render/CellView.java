@@ -0,0 +1,190 @@
+package com.example.project_csen_275.render;
+
+import com.example.project_csen_275.Models.Plants.NoPlant;
+import com.example.project_csen_275.Models.Plants.Plant;
+import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Text;
+
+/**
+ * The persistent nodes of one grid cell. Created once; each update only
+ * touches the properties whose values changed since the last one.
+ */
+final class CellView {
+    static final double IMAGE_SIZE = 50;
+    // Width and height of a cell pane
+    static final double CELL_SIZE = 80;
+
+    private static final String NORMAL_BACKGROUND = "#e8e8d0";
+    // Light orange/amber when insulation is active (for warmth)
+    private static final String INSULATED_BACKGROUND = "#ffe0b3";
+    private static final String NORMAL_STYLE = paneStyle(NORMAL_BACKGROUND, false);
+    private static final String INSULATED_STYLE = paneStyle(INSULATED_BACKGROUND, false);
+    private static final String NORMAL_SELECTED_STYLE = paneStyle(NORMAL_BACKGROUND, true);
+    private static final String INSULATED_SELECTED_STYLE = paneStyle(INSULATED_BACKGROUND, true);
+
+    final StackPane pane;
+    private final Text soilText = new Text("🌱");
+    private final Rectangle healthBg = new Rectangle(60, 20);
+    private final Label healthLabel = new Label();
+    private final Label moistureLabel = new Label();
+    private final Rectangle pestBg = new Rectangle(50, 14);
+    private final Label pestLabel = new Label();
+    private final ImageView imageView = new ImageView();
+
+    // Last drawn state
+    private boolean empty;
+    private boolean pest;
+    private int health = Integer.MIN_VALUE;
+    private boolean healthShowsPest;
+    private int moisture = Integer.MIN_VALUE;
+    private int pestHealth = Integer.MIN_VALUE;
+    private Color healthColor;
+    private String imagePath;
+    private String style;
+
+    CellView(StackPane pane) {
+        this.pane = pane;
+
+        // Special indicator for empty soil (NoPlant)
+        soilText.setOpacity(0.3); // Make it subtle
+        soilText.setTranslateY(-5);
+
+        // Background for the health text
+        healthBg.setArcWidth(8);
+        healthBg.setArcHeight(8);
+        healthBg.setFill(Color.WHITE);
+        healthBg.setOpacity(0.9);
+        healthBg.setStroke(Color.DARKGRAY);
+        healthBg.setStrokeWidth(1.5);
+        healthBg.setTranslateY(-30);
+
+        healthLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 12px;");
+        healthLabel.setTranslateY(-32);
+
+        // Moisture indicator
+        moistureLabel.setTextFill(Color.DEEPSKYBLUE);
+        moistureLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 12px;");
+        moistureLabel.setTranslateY(32);
+
+        // Pest health overlay (smaller, moved down to fit within cell)
+        pestBg.setArcWidth(8);
+        pestBg.setArcHeight(8);
+        pestBg.setFill(Color.WHITE);
+        pestBg.setStroke(Color.RED);
+        pestBg.setStrokeWidth(1.5);
+        pestBg.setOpacity(0.9);
+        pestBg.setTranslateY(-48);
+
+        pestLabel.setTextFill(Color.RED);
+        pestLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 9px;");
+        pestLabel.setTranslateY(-48);
+
+        imageView.setFitWidth(IMAGE_SIZE);
+        imageView.setFitHeight(IMAGE_SIZE);
+
+        pane.getChildren().addAll(soilText, healthBg, healthLabel, moistureLabel, pestBg, pestLabel, imageView);
+        setEmpty(true);
+        setPest(false);
+    }
+
+    /**
+     * Bring the nodes in line with the plant's current state.
+     */
+    void update(Plant plant) {
+        boolean isEmpty = plant instanceof NoPlant;
+        if (isEmpty != empty) {
+            setEmpty(isEmpty);
+        }
+        boolean hasPest = plant.hasPest();
+        if (hasPest != pest) {
+            setPest(hasPest);
+        }
+
+        if (!isEmpty) {
+            int newHealth = plant.getHealth();
+            if (newHealth != health || hasPest != healthShowsPest) {
+                health = newHealth;
+                healthShowsPest = hasPest;
+                healthLabel.setText((hasPest ? "🐛" : "♥") + " " + newHealth);
+            }
+            // Color based on health: green (good), yellow (medium), orange (low), red (pest)
+            Color color = hasPest ? Color.RED : newHealth > 75 ? Color.GREEN : newHealth > 50 ? Color.GOLD : Color.ORANGE;
+            if (color != healthColor) {
+                healthColor = color;
+                healthLabel.setTextFill(color);
+            }
+            int newMoisture = plant.getMoistureLevel();
+            if (newMoisture != moisture) {
+                moisture = newMoisture;
+                moistureLabel.setText("💧 " + newMoisture);
+            }
+        }
+        if (hasPest) {
+            int newPestHealth = plant.getPestHealth();
+            if (newPestHealth != pestHealth) {
+                pestHealth = newPestHealth;
+                pestLabel.setText("P: " + newPestHealth);
+            }
+        }
+
+        String path = imagePathOf(plant);
+        if (!path.equals(imagePath)) {
+            imagePath = path;
+            imageView.setImage(TileImageCache.get(path, IMAGE_SIZE, IMAGE_SIZE));
+        }
+    }
+
+    void setStyle(String newStyle) {
+        if (!newStyle.equals(style)) {
+            style = newStyle;
+            pane.setStyle(newStyle);
+        }
+    }
+
+    /**
+     * Get the pane style for a cell.
+     */
+    static String styleOf(boolean insulated, boolean selected) {
+        if (selected) {
+            return insulated ? INSULATED_SELECTED_STYLE : NORMAL_SELECTED_STYLE;
+        }
+        return insulated ? INSULATED_STYLE : NORMAL_STYLE;
+    }
+
+    private static String paneStyle(String bgColor, boolean selected) {
+        if (selected) {
+            return "-fx-border-color: blue; -fx-border-width: 2px; -fx-background-color: " + bgColor + ";";
+        }
+        return "-fx-border-color: #555555; -fx-background-color: " + bgColor + ";";
+    }
+
+    private void setEmpty(boolean isEmpty) {
+        empty = isEmpty;
+        soilText.setVisible(isEmpty);
+        healthBg.setVisible(!isEmpty);
+        healthLabel.setVisible(!isEmpty);
+        moistureLabel.setVisible(!isEmpty);
+    }
+
+    private void setPest(boolean hasPest) {
+        pest = hasPest;
+        pestBg.setVisible(hasPest);
+        pestLabel.setVisible(hasPest);
+    }
+
+    private static String imagePathOf(Plant plant) {
+        if (plant instanceof NoPlant) {
+            // Empty soil - use basic soil tile
+            return "tile_0000.png";
+        } else if (plant.getHealth() <= 0) {
+            // Dead plant (shouldn't happen as they should be converted to NoPlant)
+            return "dead_plant.png";
+        }
+        // Normal plant image
+        return plant.getImageUrl();
+    }
+}
@@ -0,0 +1,296 @@
+package com.example.project_csen_275.render;
+
+import com.example.project_csen_275.Models.Garden;
+import com.example.project_csen_275.Models.Plants.CellStorage;
+import com.example.project_csen_275.Models.Plants.DirtyCells;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Immediate-mode renderer that draws the whole garden onto one {@link Canvas}.
+ * <p>
+ * A node-per-cell grid spends its time in layout and CSS once it grows past a
+ * few thousand cells; here the scene graph holds a single node whatever the
+ * garden size. Like {@link GardenGridRenderer}, a render pass only redraws the
+ * cells marked in the garden's {@link DirtyCells}, reading their state straight
+ * from the {@link CellStorage} columns.
+ * <p>
+ * Cells are sized so the canvas stays within {@value #MAX_CANVAS_SIZE} pixels
+ * a side. Cells of at least {@value #MIN_TILE_SIZE} pixels are drawn with the
+ * cached plant tiles and small health and moisture bars. Smaller cells are
+ * drawn as flat color blocks into a pixel buffer, health as the block color
+ * and moisture as a blue strip along the bottom, and the changed rows of the
+ * buffer are written to the canvas in one call per render. Cells have no pane
+ * of their own, so {@link #getCellPane} returns null and cell animations are
+ * skipped. Must be used on the JavaFX application thread.
+ */
+public class GardenCanvasRenderer implements GridRenderer {
+    /**
+     * System property with the cell count above which {@link GridRenderer#create}
+     * picks this renderer.
+     */
+    public static final String THRESHOLD_PROPERTY = "garden.render.canvasThreshold";
+    public static final int DEFAULT_THRESHOLD = 2_500;
+
+    // Largest canvas side in pixels, and the cell size range within it
+    private static final int MAX_CANVAS_SIZE = 2_048;
+    private static final int MAX_CELL_SIZE = 48;
+    // Cells smaller than this are drawn as color blocks instead of tiles
+    private static final int MIN_TILE_SIZE = 16;
+
+    private static final Color NORMAL_BACKGROUND = Color.web("#e8e8d0");
+    private static final Color INSULATED_BACKGROUND = Color.web("#ffe0b3");
+    private static final Color SELECTED_BORDER = Color.BLUE;
+    private static final Color MOISTURE_COLOR = Color.DEEPSKYBLUE;
+
+    // Packed ARGB colors for the pixel buffer
+    private static final int SOIL_ARGB = 0xFF8D6E63;
+    private static final int INSULATED_SOIL_ARGB = 0xFFB08A5A;
+    private static final int DEAD_ARGB = 0xFF5D4037;
+    private static final int PEST_ARGB = 0xFFD32F2F;
+    private static final int SELECTED_ARGB = 0xFF1E40FF;
+    // Health 0-100 from orange to green, moisture 0-100 from dry soil to blue
+    private static final int[] HEALTH_ARGB = gradient(0xFFFF9800, 0xFF2E7D32);
+    private static final int[] MOISTURE_ARGB = gradient(0xFF6D4C41, 0xFF00B0FF);
+
+    private final CellStorage cells;
+    private final DirtyCells dirtyCells;
+    private final int rows;
+    private final int cols;
+    private final int cellSize;
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    // Tiles decoded at the cell size, by interned image ID
+    private final Image[] tiles = new Image[256];
+    // Pixel buffer for color-block mode, null in tile mode
+    private final int[] pixels;
+    private boolean insulationActive = false;
+    private int selectedIndex = -1;
+
+    public GardenCanvasRenderer(Garden garden) {
+        this.cells = garden.getCells();
+        this.dirtyCells = garden.getDirtyCells();
+        this.rows = garden.getRows();
+        this.cols = garden.getCols();
+        this.cellSize = Math.clamp(MAX_CANVAS_SIZE / Math.max(rows, cols), 1, MAX_CELL_SIZE);
+        this.canvas = new Canvas((double) cols * cellSize, (double) rows * cellSize);
+        this.gc = canvas.getGraphicsContext2D();
+        this.pixels = cellSize < MIN_TILE_SIZE ? new int[rows * cellSize * cols * cellSize] : null;
+    }
+
+    /**
+     * Get the cell count above which the canvas renderer is used, from
+     * {@value #THRESHOLD_PROPERTY} or {@value #DEFAULT_THRESHOLD}.
+     */
+    public static int getThreshold() {
+        return Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD);
+    }
+
+    @Override
+    public void attachTo(GridPane grid, CellClickHandler onClick) {
+        canvas.setOnMouseClicked(e -> {
+            int row = (int) (e.getY() / cellSize);
+            int col = (int) (e.getX() / cellSize);
+            if (row >= 0 && row < rows && col >= 0 && col < cols) {
+                onClick.onCellClicked(row, col, e.getButton() == MouseButton.SECONDARY);
+            }
+        });
+        grid.add(canvas, 0, 0);
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Get the side of a cell in canvas pixels.
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public int indexOf(int row, int col) {
+        return row * cols + col;
+    }
+
+    /**
+     * Cells on the canvas have no pane of their own.
+     *
+     * @return always null
+     */
+    @Override
+    public StackPane getCellPane(int index) {
+        return null;
+    }
+
+    @Override
+    public int render() {
+        if (pixels == null) {
+            return dirtyCells.drain(this::drawTile);
+        }
+        BlockPass pass = new BlockPass();
+        int count = dirtyCells.drain(pass);
+        if (count > 0) {
+            // Write only the band of pixel rows that changed
+            int width = cols * cellSize;
+            int y = pass.minRow * cellSize;
+            int height = (pass.maxRow - pass.minRow + 1) * cellSize;
+            gc.getPixelWriter().setPixels(0, y, width, height,
+                    PixelFormat.getIntArgbInstance(), pixels, y * width, width);
+        }
+        return count;
+    }
+
+    @Override
+    public void invalidateAll() {
+        dirtyCells.markAll();
+    }
+
+    @Override
+    public void setInsulationActive(boolean active) {
+        if (active != insulationActive) {
+            insulationActive = active;
+            // The background shows through every cell
+            dirtyCells.markAll();
+        }
+    }
+
+    @Override
+    public void setSelected(int row, int col) {
+        int index = row >= 0 && col >= 0 && row < rows && col < cols ? indexOf(row, col) : -1;
+        if (index == selectedIndex) {
+            return;
+        }
+        if (selectedIndex >= 0) {
+            dirtyCells.mark(selectedIndex);
+        }
+        selectedIndex = index;
+        if (index >= 0) {
+            dirtyCells.mark(index);
+        }
+    }
+
+    private void drawTile(int index) {
+        double x = (double) (index % cols) * cellSize;
+        double y = (double) (index / cols) * cellSize;
+        gc.setFill(insulationActive ? INSULATED_BACKGROUND : NORMAL_BACKGROUND);
+        gc.fillRect(x, y, cellSize, cellSize);
+
+        boolean empty = cells.getSpecies(index) == 0;
+        int health = cells.getHealth(index);
+        // Dead plants that have not been cleared yet get the dead tile, as in the node grid
+        gc.drawImage(!empty && health <= 0 ? tile("dead_plant.png") : tile(cells.getImageId(index)), x, y);
+
+        if (!empty) {
+            double bar = Math.max(2, cellSize / 8);
+            boolean pest = cells.getPestId(index) != 0;
+            // Health bar along the top, red while a pest is present
+            gc.setFill(pest ? Color.RED : health > 75 ? Color.GREEN : health > 50 ? Color.GOLD : Color.ORANGE);
+            gc.fillRect(x, y, cellSize * Math.clamp(health, 0, 100) / 100.0, bar);
+            // Moisture bar along the bottom
+            gc.setFill(MOISTURE_COLOR);
+            gc.fillRect(x, y + cellSize - bar, cellSize * Math.clamp(cells.getMoisture(index), 0, 100) / 100.0, bar);
+        }
+        if (index == selectedIndex) {
+            gc.setStroke(SELECTED_BORDER);
+            gc.setLineWidth(2);
+            gc.strokeRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
+        }
+    }
+
+    private Image tile(int imageId) {
+        Image image = tiles[imageId];
+        if (image == null) {
+            image = tile(CellStorage.imageNameOf(imageId));
+            tiles[imageId] = image;
+        }
+        return image;
+    }
+
+    private Image tile(String fileName) {
+        return TileImageCache.get(fileName, cellSize, cellSize);
+    }
+
+    /**
+     * One render pass in color-block mode: fills the changed cells into the
+     * pixel buffer and tracks the rows they span.
+     */
+    private final class BlockPass implements IntConsumer {
+        int minRow = Integer.MAX_VALUE;
+        int maxRow = -1;
+
+        @Override
+        public void accept(int index) {
+            int row = index / cols;
+            minRow = Math.min(minRow, row);
+            maxRow = Math.max(maxRow, row);
+            fillBlock(index, row, index - row * cols);
+        }
+    }
+
+    private void fillBlock(int index, int row, int col) {
+        int color;
+        int moisture = -1;
+        if (cells.getSpecies(index) == 0) {
+            color = insulationActive ? INSULATED_SOIL_ARGB : SOIL_ARGB;
+        } else if (cells.getHealth(index) <= 0) {
+            color = DEAD_ARGB;
+        } else {
+            color = cells.getPestId(index) != 0 ? PEST_ARGB : HEALTH_ARGB[Math.clamp(cells.getHealth(index), 0, 100)];
+            moisture = MOISTURE_ARGB[Math.clamp(cells.getMoisture(index), 0, 100)];
+        }
+        boolean selected = index == selectedIndex;
+
+        int width = cols * cellSize;
+        int start = row * cellSize * width + col * cellSize;
+        // Moisture strip takes the bottom quarter of blocks tall enough to show it
+        int strip = moisture >= 0 && cellSize >= 4 ? cellSize / 4 : 0;
+        for (int y = 0; y < cellSize; y++) {
+            int offset = start + y * width;
+            int rowColor = y >= cellSize - strip ? moisture : color;
+            if (selected && (y == 0 || y == cellSize - 1)) {
+                rowColor = SELECTED_ARGB;
+            }
+            Arrays.fill(pixels, offset, offset + cellSize, rowColor);
+            if (selected) {
+                pixels[offset] = SELECTED_ARGB;
+                pixels[offset + cellSize - 1] = SELECTED_ARGB;
+            }
+        }
+    }
+
+    private static int[] gradient(int from, int to) {
+        int[] colors = new int[101];
+        for (int i = 0; i <= 100; i++) {
+            int r = lerp((from >> 16) & 0xFF, (to >> 16) & 0xFF, i);
+            int g = lerp((from >> 8) & 0xFF, (to >> 8) & 0xFF, i);
+            int b = lerp(from & 0xFF, to & 0xFF, i);
+            colors[i] = 0xFF000000 | r << 16 | g << 8 | b;
+        }
+        return colors;
+    }
+
+    private static int lerp(int from, int to, int percent) {
+        return from + (to - from) * percent / 100;
+    }
+}
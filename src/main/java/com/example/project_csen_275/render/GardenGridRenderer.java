@@ -0,0 +1,172 @@
+package com.example.project_csen_275.render;
+
+import com.example.project_csen_275.Models.Garden;
+import com.example.project_csen_275.Models.Plants.DirtyCells;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.StackPane;
+
+/**
+ * Retained-mode renderer for the garden grid.
+ * <p>
+ * Each cell keeps one persistent set of nodes. A render pass drains the
+ * garden's {@link DirtyCells} and updates only the cells that changed, and
+ * within them only the properties that changed, so its cost follows the
+ * number of changed cells rather than the grid size.
+ * <p>
+ * The renderer is also the index from cells to their panes: a flat array
+ * filled by {@link #attach}, so finding a cell's pane for an animation is a
+ * single array read. Must be used on the JavaFX application thread.
+ * <p>
+ * Suits small gardens; large ones are drawn by {@link GardenCanvasRenderer}.
+ */
+public class GardenGridRenderer implements GridRenderer {
+    private final Garden garden;
+    private final DirtyCells dirtyCells;
+    private final CellView[] views;
+    private boolean insulationActive = false;
+    private int selectedIndex = -1;
+
+    public GardenGridRenderer(Garden garden) {
+        this.garden = garden;
+        this.dirtyCells = garden.getDirtyCells();
+        this.views = new CellView[garden.getRows() * garden.getCols()];
+    }
+
+    @Override
+    public void attachTo(GridPane grid, CellClickHandler onClick) {
+        for (int r = 0; r < garden.getRows(); r++) {
+            for (int c = 0; c < garden.getCols(); c++) {
+                StackPane cell = new StackPane();
+                cell.setMinSize(CellView.CELL_SIZE, CellView.CELL_SIZE);
+                cell.setPrefSize(CellView.CELL_SIZE, CellView.CELL_SIZE);
+                cell.setMaxSize(CellView.CELL_SIZE, CellView.CELL_SIZE);
+                final int row = r;
+                final int col = c;
+                cell.setOnMouseClicked(e -> onClick.onCellClicked(row, col, e.getButton() == MouseButton.SECONDARY));
+                grid.add(cell, c, r);
+                attach(r, c, cell);
+            }
+        }
+    }
+
+    /**
+     * Build the persistent nodes of a cell inside its pane.
+     */
+    public void attach(int row, int col, StackPane pane) {
+        int index = indexOf(row, col);
+        views[index] = new CellView(pane);
+        views[index].setStyle(styleOf(index));
+        dirtyCells.mark(index);
+    }
+
+    @Override
+    public int getRows() {
+        return garden.getRows();
+    }
+
+    @Override
+    public int getCols() {
+        return garden.getCols();
+    }
+
+    /**
+     * Get the flat index of a cell, as used by the engine's reports.
+     */
+    @Override
+    public int indexOf(int row, int col) {
+        return row * garden.getCols() + col;
+    }
+
+    /**
+     * Get the pane of a cell.
+     *
+     * @return the pane, or null if the cell is outside the grid or not attached
+     */
+    public StackPane getCellPane(int row, int col) {
+        if (row < 0 || row >= garden.getRows() || col < 0 || col >= garden.getCols()) {
+            return null;
+        }
+        return getCellPane(indexOf(row, col));
+    }
+
+    /**
+     * Get the pane of a cell by flat index.
+     *
+     * @return the pane, or null if the index is outside the grid or not attached
+     */
+    @Override
+    public StackPane getCellPane(int index) {
+        if (index < 0 || index >= views.length) {
+            return null;
+        }
+        CellView view = views[index];
+        return view != null ? view.pane : null;
+    }
+
+    /**
+     * Update the cells that changed since the last render.
+     *
+     * @return number of cells updated
+     */
+    @Override
+    public int render() {
+        return dirtyCells.drain(this::renderCell);
+    }
+
+    /**
+     * Redraw every cell on the next render.
+     */
+    @Override
+    public void invalidateAll() {
+        dirtyCells.markAll();
+    }
+
+    /**
+     * Show or hide the insulation cover tint on every cell.
+     */
+    @Override
+    public void setInsulationActive(boolean active) {
+        if (active == insulationActive) {
+            return;
+        }
+        insulationActive = active;
+        for (int i = 0; i < views.length; i++) {
+            if (views[i] != null) {
+                views[i].setStyle(styleOf(i));
+            }
+        }
+    }
+
+    /**
+     * Highlight the selected cell, or none with a negative row.
+     */
+    @Override
+    public void setSelected(int row, int col) {
+        int index = row >= 0 && col >= 0 ? indexOf(row, col) : -1;
+        if (index == selectedIndex) {
+            return;
+        }
+        int previous = selectedIndex;
+        selectedIndex = index;
+        restyle(previous);
+        restyle(index);
+    }
+
+    private void renderCell(int index) {
+        CellView view = views[index];
+        if (view != null) {
+            view.update(garden.getPlant(index / garden.getCols(), index % garden.getCols()));
+        }
+    }
+
+    private void restyle(int index) {
+        if (index >= 0 && views[index] != null) {
+            views[index].setStyle(styleOf(index));
+        }
+    }
+
+    private String styleOf(int index) {
+        return CellView.styleOf(insulationActive, index == selectedIndex);
+    }
+}
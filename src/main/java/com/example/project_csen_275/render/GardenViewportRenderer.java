@@ -0,0 +1,297 @@
+package com.example.project_csen_275.render;
+
+import com.example.project_csen_275.Models.Garden;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Translate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Virtualized renderer that shows a pannable, zoomable window onto the garden.
+ * <p>
+ * Only the cells intersecting the viewport have nodes. A fixed pool of cell
+ * views, one per visible slot, is laid out once for the current zoom; panning
+ * just rebinds each slot to the cell now under it, the way {@code ListView}
+ * recycles its rows. Each render visits the visible window through
+ * {@link Garden#forEachInRegion} and lets every {@link CellView} update only
+ * the properties that changed, so the cost follows the viewport size and not
+ * the garden size.
+ * <p>
+ * Drag to pan and scroll to zoom around the pointer. Must be used on the
+ * JavaFX application thread.
+ */
+public class GardenViewportRenderer implements GridRenderer {
+    /**
+     * System property with the cell count above which {@link GridRenderer#create}
+     * picks this renderer over {@link GardenCanvasRenderer}.
+     */
+    public static final String THRESHOLD_PROPERTY = "garden.render.viewportThreshold";
+    public static final int DEFAULT_THRESHOLD = 1_000_000;
+
+    private static final double VIEWPORT_WIDTH = 800;
+    private static final double VIEWPORT_HEIGHT = 640;
+    private static final double MIN_ZOOM = 0.25;
+    private static final double MAX_ZOOM = 2.0;
+    // Zoom factor per scroll notch
+    private static final double ZOOM_STEP = 1.1;
+
+    private final Garden garden;
+    private final int rows;
+    private final int cols;
+    private final Pane viewport = new Pane();
+    private final Pane content = new Pane();
+    private final Rectangle clip = new Rectangle();
+    private final Scale scale = new Scale(1, 1, 0, 0);
+    private final Translate shift = new Translate();
+    // Recycled cell views; the first slotRows x slotCols are in use
+    private final List<CellView> pool = new ArrayList<>();
+    private int slotRows;
+    private int slotCols;
+    // Cell index shown by each slot, -1 if the slot is past the garden edge
+    private int[] slotCells = new int[0];
+    // Cell shown by the first slot at the last render
+    private int firstRow;
+    private int firstCol;
+    // Top-left of the view in unscaled garden pixels
+    private double offsetX;
+    private double offsetY;
+    private double zoom = 1.0;
+    private double dragX;
+    private double dragY;
+    private boolean layoutDirty = true;
+    private boolean insulationActive = false;
+    private int selectedIndex = -1;
+
+    public GardenViewportRenderer(Garden garden) {
+        this.garden = garden;
+        this.rows = garden.getRows();
+        this.cols = garden.getCols();
+        viewport.setPrefSize(VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+        viewport.setClip(clip);
+        content.getTransforms().addAll(scale, shift);
+        viewport.getChildren().add(content);
+    }
+
+    /**
+     * Get the cell count above which the viewport renderer is used, from
+     * {@value #THRESHOLD_PROPERTY} or {@value #DEFAULT_THRESHOLD}.
+     */
+    public static int getThreshold() {
+        return Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD);
+    }
+
+    @Override
+    public void attachTo(GridPane grid, CellClickHandler onClick) {
+        viewport.setOnMousePressed(e -> {
+            dragX = e.getX();
+            dragY = e.getY();
+        });
+        viewport.setOnMouseDragged(e -> {
+            panBy(dragX - e.getX(), dragY - e.getY());
+            dragX = e.getX();
+            dragY = e.getY();
+        });
+        viewport.setOnScroll(e -> {
+            if (e.getDeltaY() != 0) {
+                zoomAt(e.getX(), e.getY(), e.getDeltaY() > 0 ? zoom * ZOOM_STEP : zoom / ZOOM_STEP);
+            }
+        });
+        viewport.setOnMouseClicked(e -> {
+            // Releasing a drag is not a click
+            if (!e.isStillSincePress()) {
+                return;
+            }
+            double x = offsetX + e.getX() / zoom;
+            double y = offsetY + e.getY() / zoom;
+            int row = (int) Math.floor(y / CellView.CELL_SIZE);
+            int col = (int) Math.floor(x / CellView.CELL_SIZE);
+            if (row >= 0 && row < rows && col >= 0 && col < cols) {
+                onClick.onCellClicked(row, col, e.getButton() == MouseButton.SECONDARY);
+            }
+        });
+        grid.add(viewport, 0, 0);
+    }
+
+    /**
+     * Move the view by a distance in screen pixels.
+     */
+    public void panBy(double dx, double dy) {
+        offsetX += dx / zoom;
+        offsetY += dy / zoom;
+        clampOffset();
+    }
+
+    /**
+     * Zoom the view, keeping the garden point under a screen position fixed.
+     *
+     * @param x       Screen x inside the viewport
+     * @param y       Screen y inside the viewport
+     * @param newZoom Requested zoom, clamped to the supported range
+     */
+    public void zoomAt(double x, double y, double newZoom) {
+        newZoom = Math.clamp(newZoom, MIN_ZOOM, MAX_ZOOM);
+        if (newZoom == zoom) {
+            return;
+        }
+        offsetX += x / zoom - x / newZoom;
+        offsetY += y / zoom - y / newZoom;
+        zoom = newZoom;
+        layoutDirty = true;
+        clampOffset();
+    }
+
+    public double getZoom() {
+        return zoom;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public int indexOf(int row, int col) {
+        return row * cols + col;
+    }
+
+    /**
+     * Get the pane of a cell while it is in view.
+     *
+     * @return the pane, or null if the cell is scrolled out of view
+     */
+    @Override
+    public StackPane getCellPane(int index) {
+        if (index < 0) {
+            return null;
+        }
+        int slotRow = index / cols - firstRow;
+        int slotCol = index % cols - firstCol;
+        if (slotRow < 0 || slotRow >= slotRows || slotCol < 0 || slotCol >= slotCols) {
+            return null;
+        }
+        int slot = slotRow * slotCols + slotCol;
+        // The slots may have been resized since the last render
+        return slot < slotCells.length && slotCells[slot] == index ? pool.get(slot).pane : null;
+    }
+
+    /**
+     * Update the cells in view. Every visible cell is visited, but its nodes
+     * are only touched where its state changed.
+     *
+     * @return number of cells in view
+     */
+    @Override
+    public int render() {
+        if (layoutDirty || clip.getWidth() != viewWidth() || clip.getHeight() != viewHeight()) {
+            layoutSlots();
+        }
+        int firstRow = (int) (offsetY / CellView.CELL_SIZE);
+        int firstCol = (int) (offsetX / CellView.CELL_SIZE);
+        this.firstRow = firstRow;
+        this.firstCol = firstCol;
+        // Sub-cell part of the offset, applied before the zoom
+        shift.setX(-(offsetX - firstCol * CellView.CELL_SIZE));
+        shift.setY(-(offsetY - firstRow * CellView.CELL_SIZE));
+
+        Arrays.fill(slotCells, -1);
+        int visited = garden.forEachInRegion(firstRow, firstCol, slotRows, slotCols, (row, col, plant) -> {
+            int slot = (row - firstRow) * slotCols + (col - firstCol);
+            int index = row * cols + col;
+            CellView view = pool.get(slot);
+            slotCells[slot] = index;
+            view.update(plant);
+            view.setStyle(CellView.styleOf(insulationActive, index == selectedIndex));
+        });
+        // Hide slots past the garden edge
+        for (int slot = 0; slot < slotRows * slotCols; slot++) {
+            pool.get(slot).pane.setVisible(slotCells[slot] >= 0);
+        }
+        return visited;
+    }
+
+    @Override
+    public void invalidateAll() {
+        layoutDirty = true;
+    }
+
+    @Override
+    public void setInsulationActive(boolean active) {
+        insulationActive = active;
+    }
+
+    @Override
+    public void setSelected(int row, int col) {
+        selectedIndex = row >= 0 && col >= 0 ? indexOf(row, col) : -1;
+    }
+
+    /**
+     * Size the slot grid for the current viewport and zoom, growing the pool
+     * if needed. Slots keep fixed positions; only the cells they show move.
+     */
+    private void layoutSlots() {
+        layoutDirty = false;
+        double width = viewWidth();
+        double height = viewHeight();
+        clip.setWidth(width);
+        clip.setHeight(height);
+        scale.setX(zoom);
+        scale.setY(zoom);
+        clampOffset();
+
+        // One extra row and column for the partly visible cells at the edges
+        double cellPixels = CellView.CELL_SIZE * zoom;
+        slotRows = Math.min(rows, (int) Math.ceil(height / cellPixels) + 1);
+        slotCols = Math.min(cols, (int) Math.ceil(width / cellPixels) + 1);
+        int needed = slotRows * slotCols;
+        while (pool.size() < needed) {
+            StackPane pane = new StackPane();
+            pane.setMinSize(CellView.CELL_SIZE, CellView.CELL_SIZE);
+            pane.setPrefSize(CellView.CELL_SIZE, CellView.CELL_SIZE);
+            pane.setMaxSize(CellView.CELL_SIZE, CellView.CELL_SIZE);
+            // Clicks are mapped to cells by the viewport
+            pane.setMouseTransparent(true);
+            content.getChildren().add(pane);
+            pool.add(new CellView(pane));
+        }
+        for (int slot = 0; slot < pool.size(); slot++) {
+            StackPane pane = pool.get(slot).pane;
+            if (slot < needed) {
+                pane.relocate((slot % slotCols) * CellView.CELL_SIZE, (slot / slotCols) * CellView.CELL_SIZE);
+            } else {
+                pane.setVisible(false);
+            }
+        }
+        if (slotCells.length < needed) {
+            slotCells = new int[pool.size()];
+        }
+    }
+
+    private void clampOffset() {
+        double maxX = cols * CellView.CELL_SIZE - viewWidth() / zoom;
+        double maxY = rows * CellView.CELL_SIZE - viewHeight() / zoom;
+        offsetX = Math.clamp(offsetX, 0, Math.max(0, maxX));
+        offsetY = Math.clamp(offsetY, 0, Math.max(0, maxY));
+    }
+
+    private double viewWidth() {
+        double width = viewport.getWidth();
+        return width > 0 ? width : VIEWPORT_WIDTH;
+    }
+
+    private double viewHeight() {
+        double height = viewport.getHeight();
+        return height > 0 ? height : VIEWPORT_HEIGHT;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.project_csen_275.render;
+
+import com.example.project_csen_275.Models.Garden;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.StackPane;
+
+/**
+ * Draws the garden grid for the controller.
+ * <p>
+ * Implementations only touch what changed since the last render, either the
+ * cells marked in the garden's
+ * {@link com.example.project_csen_275.Models.Plants.DirtyCells} or the changed
+ * properties of the cells in view. Use {@link #create} to pick one for a
+ * garden's size. Must be used on the JavaFX application thread.
+ */
+public interface GridRenderer {
+
+    /**
+     * Called when the user clicks a cell.
+     */
+    @FunctionalInterface
+    interface CellClickHandler {
+        /**
+         * @param row       Clicked row
+         * @param col       Clicked column
+         * @param secondary True for a right click
+         */
+        void onCellClicked(int row, int col, boolean secondary);
+    }
+
+    /**
+     * Build the renderer's nodes inside the garden grid pane.
+     *
+     * @param grid    Pane to add the nodes to
+     * @param onClick Handler for clicks on cells
+     */
+    void attachTo(GridPane grid, CellClickHandler onClick);
+
+    int getRows();
+
+    int getCols();
+
+    /**
+     * Get the flat index of a cell, as used by the engine's reports.
+     */
+    int indexOf(int row, int col);
+
+    /**
+     * Get the pane of a cell, for animations.
+     *
+     * @return the pane, or null if the cell is outside the grid or has no
+     *         pane of its own
+     */
+    StackPane getCellPane(int index);
+
+    /**
+     * Update the cells that changed since the last render.
+     *
+     * @return number of cells updated
+     */
+    int render();
+
+    /**
+     * Redraw every cell on the next render.
+     */
+    void invalidateAll();
+
+    /**
+     * Show or hide the insulation cover tint on every cell.
+     */
+    void setInsulationActive(boolean active);
+
+    /**
+     * Highlight the selected cell, or none with a negative row.
+     */
+    void setSelected(int row, int col);
+
+    /**
+     * Pick a renderer for a garden: one node set per cell for small gardens,
+     * a single canvas above {@link GardenCanvasRenderer#getThreshold()} cells,
+     * and a pannable window of recycled cells above
+     * {@link GardenViewportRenderer#getThreshold()} cells.
+     */
+    static GridRenderer create(Garden garden) {
+        long cells = (long) garden.getRows() * garden.getCols();
+        if (cells > GardenViewportRenderer.getThreshold()) {
+            return new GardenViewportRenderer(garden);
+        }
+        if (cells > GardenCanvasRenderer.getThreshold()) {
+            return new GardenCanvasRenderer(garden);
+        }
+        return new GardenGridRenderer(garden);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.project_csen_275.render;
+
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared cache of decoded tile and sprite images from {@code assests/Tiles}.
+ * <p>
+ * Each image is decoded once, either at full size or as a scaled variant for
+ * a fixed display size (decoding straight to the target size keeps small
+ * icons cheap to draw). JavaFX images are immutable, so cached instances are
+ * shared by every view. Safe to use from any thread; {@link #preload()} can
+ * warm the cache in the background at startup.
+ */
+public final class TileImageCache {
+    public static final String TILE_PATH = "/com/example/project_csen_275/assests/Tiles/";
+
+    // Tiles used by the plants, the grid and the animations
+    private static final List<String> DEFAULT_TILES = List.of(
+            "tile_0000.png", "dead_plant.png", "grass.png",
+            "carrot_mid.png", "carrot_grown.png", "carrot_radish_leaf.png",
+            "cherry_small.png", "cherry_grown.png",
+            "stem.png", "corn_grown.png", "dead_steam.png",
+            "pumpkin_small.png", "pumpkin_full_grow.png",
+            "sunflower.png",
+            "sun.png", "frost.png", "rain.png", "gardener.png", "pest-spray.png", "water-pour.png");
+
+    private static final ConcurrentHashMap<String, Image> images = new ConcurrentHashMap<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private TileImageCache() {
+    }
+
+    /**
+     * Get a tile at its original size.
+     *
+     * @param fileName File name inside {@code assests/Tiles}, e.g. {@code "sun.png"}
+     * @return The decoded image
+     * @throws IllegalArgumentException if there is no such tile
+     */
+    public static Image get(String fileName) {
+        return lookup(fileName, fileName, 0, 0);
+    }
+
+    /**
+     * Get a tile decoded to a fixed size.
+     *
+     * @param fileName File name inside {@code assests/Tiles}
+     * @param width    Width to decode to
+     * @param height   Height to decode to
+     * @return The decoded, scaled image
+     * @throws IllegalArgumentException if there is no such tile
+     */
+    public static Image get(String fileName, double width, double height) {
+        return lookup(fileName + "@" + width + "x" + height, fileName, width, height);
+    }
+
+    /**
+     * Decode the tiles used by the plants, grid and animations.
+     */
+    public static void preload() {
+        for (String fileName : DEFAULT_TILES) {
+            get(fileName);
+        }
+    }
+
+    /**
+     * Decode the given tiles at a fixed size, e.g. the grid cell size.
+     */
+    public static void preload(List<String> fileNames, double width, double height) {
+        for (String fileName : fileNames) {
+            get(fileName, width, height);
+        }
+    }
+
+    /**
+     * Get the names of the tiles decoded by {@link #preload()}
+     */
+    public static List<String> getDefaultTiles() {
+        return DEFAULT_TILES;
+    }
+
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    public static long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of decoded images held, counting each scaled variant
+     */
+    public static int size() {
+        return images.size();
+    }
+
+    /**
+     * Drop all cached images and reset the metrics.
+     */
+    public static void clear() {
+        images.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Summary of the cache metrics, for logging
+     */
+    public static String describe() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return String.format("%d images, %d hits, %d misses (%.1f%% hit rate)",
+                images.size(), hitCount, total - hitCount, total == 0 ? 0.0 : 100.0 * hitCount / total);
+    }
+
+    private static Image lookup(String key, String fileName, double width, double height) {
+        Image image = images.get(key);
+        if (image != null) {
+            hits.increment();
+            return image;
+        }
+        return images.computeIfAbsent(key, _ -> {
+            misses.increment();
+            return decode(fileName, width, height);
+        });
+    }
+
+    private static Image decode(String fileName, double width, double height) {
+        try (InputStream in = TileImageCache.class.getResourceAsStream(TILE_PATH + fileName)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Tile image not found: " + fileName);
+            }
+            return width > 0 ? new Image(in, width, height, false, true) : new Image(in);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read tile image " + fileName + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -2,6 +2,10 @@ module com.example.project_csen_275 {
     requires javafx.controls;
     requires javafx.fxml;
     requires transitive javafx.graphics;
+    // Provides the LXM generators behind SimulationRandom
+    requires jdk.random;
+    // Optional: the vector cell kernel, used when run with --add-modules jdk.incubator.vector
+    requires static jdk.incubator.vector;
 
     opens com.example.project_csen_275 to javafx.fxml;
     opens com.example.project_csen_275.Models to javafx.fxml;
@@ -10,4 +14,6 @@ module com.example.project_csen_275 {
     exports com.example.project_csen_275;
     exports com.example.project_csen_275.Models;
     exports com.example.project_csen_275.Models.Plants;
+    exports com.example.project_csen_275.engine;
+    exports com.example.project_csen_275.journal;
 }
\ No newline at end of file
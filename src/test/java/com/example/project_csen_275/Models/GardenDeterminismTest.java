@@ -0,0 +1,124 @@
+package com.example.project_csen_275.Models;
+
+import com.example.project_csen_275.GardenLogger;
+import com.example.project_csen_275.Models.Plants.CellStorage;
+import com.example.project_csen_275.Models.Plants.PestTable;
+import com.example.project_csen_275.Models.Plants.PopulationSnapshot;
+import com.example.project_csen_275.journal.EventJournal;
+import com.example.project_csen_275.journal.EventJournalReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A seeded garden evolves identically whether its row bands are ticked on the
+ * calling thread or in parallel, and the per-band counters and journal
+ * records merge into the same totals and event order.
+ */
+class GardenDeterminismTest {
+    private static final long SEED = 2024;
+    // 24,000 cells: above the parallel threshold and three bands high
+    private static final int ROWS = 160;
+    private static final int COLS = 150;
+    private static final int TICKS = 300;
+
+    /**
+     * Everything observable about a garden after a run.
+     */
+    private record Outcome(int[][] cells, PopulationSnapshot population, int died, int planted, int watered,
+            List<String> events) {
+    }
+
+    @Test
+    void parallelBandsMatchSequentialBands(@TempDir Path dir) throws IOException {
+        Outcome sequential = run(null, dir.resolve("sequential" + EventJournal.FILE_EXTENSION));
+        for (int threads : new int[] { 1, 4 }) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                Outcome parallel = run(pool, dir.resolve("parallel" + threads + EventJournal.FILE_EXTENSION));
+                assertSameOutcome(sequential, parallel, threads + " threads");
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void sameSeedGivesSameGarden(@TempDir Path dir) throws IOException {
+        assertSameOutcome(run(null, dir.resolve("first" + EventJournal.FILE_EXTENSION)),
+                run(null, dir.resolve("second" + EventJournal.FILE_EXTENSION)), "second run");
+    }
+
+    private static Outcome run(ForkJoinPool pool, Path journalPath) throws IOException {
+        GardenLogger.setConsoleLoggingEnabled(false);
+        GardenLogger.setFileLoggingEnabled(false);
+        Garden garden = new Garden(ROWS, COLS, SEED);
+        garden.setTickPool(pool);
+        try (EventJournal journal = EventJournal.open(journalPath, ROWS, COLS, SEED, 3000)) {
+            garden.setJournal(journal);
+            // Pests make the ticks draw from the band random streams
+            garden.infest(PestTable.APHID);
+            garden.infest(PestTable.LOCUST);
+            for (int tick = 0; tick < TICKS; tick++) {
+                garden.updateGardenState();
+                if (tick % 10 == 0) {
+                    garden.rain();
+                }
+                if (tick % 50 == 25) {
+                    garden.temperature(tick % 100 == 25 ? 85 : 55);
+                }
+            }
+            garden.setJournal(null);
+        }
+
+        CellStorage cells = garden.getCells();
+        int[][] columns = new int[6][cells.size()];
+        for (int i = 0; i < cells.size(); i++) {
+            columns[0][i] = cells.getSpecies(i);
+            columns[1][i] = cells.getHealth(i);
+            columns[2][i] = cells.getMoisture(i);
+            columns[3][i] = cells.getPestId(i);
+            columns[4][i] = cells.getPestHealth(i);
+            columns[5][i] = cells.getImageId(i);
+        }
+        return new Outcome(columns, garden.getPopulation(), garden.getDeadPlantCount(), garden.getPlantedCount(),
+                garden.getWateredCount(), readEvents(journalPath));
+    }
+
+    private static List<String> readEvents(Path path) throws IOException {
+        List<String> events = new ArrayList<>();
+        try (EventJournalReader reader = EventJournalReader.open(path)) {
+            while (reader.next()) {
+                events.add(reader.tick() + " " + reader.cell() + " " + reader.type() + " " + reader.species() + " "
+                        + reader.value());
+            }
+        }
+        return events;
+    }
+
+    private static void assertSameOutcome(Outcome expected, Outcome actual, String run) {
+        String[] columns = { "species", "health", "moisture", "pest", "pest health", "image" };
+        for (int c = 0; c < columns.length; c++) {
+            assertArrayEquals(expected.cells()[c], actual.cells()[c], columns[c] + " column, " + run);
+        }
+        PopulationSnapshot a = expected.population();
+        PopulationSnapshot b = actual.population();
+        assertEquals(a.living(), b.living(), "living, " + run);
+        assertEquals(a.empty(), b.empty(), "empty, " + run);
+        assertEquals(a.infested(), b.infested(), "infested, " + run);
+        assertEquals(a.lowMoisture(), b.lowMoisture(), "low moisture, " + run);
+        assertArrayEquals(a.speciesCounts(), b.speciesCounts(), "species counts, " + run);
+        assertEquals(expected.died(), actual.died(), "dead plants, " + run);
+        assertEquals(expected.planted(), actual.planted(), "planted, " + run);
+        assertEquals(expected.watered(), actual.watered(), "watered, " + run);
+        assertEquals(expected.events(), actual.events(), "journal events, " + run);
+    }
+}
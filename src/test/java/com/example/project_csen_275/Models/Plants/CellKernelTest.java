@@ -0,0 +1,126 @@
+package com.example.project_csen_275.Models.Plants;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * The vector cell kernel computes exactly what the scalar one does: the same
+ * selections, stored values, changed cells and low-moisture counts, for row
+ * widths that do and don't fill whole vectors and for species the kernels
+ * don't handle. Needs {@code --add-modules jdk.incubator.vector}, which the
+ * build passes to tests; without it the comparison is skipped.
+ */
+class CellKernelTest {
+    private static final int HEIGHT = CellStorage.CHUNK_SIZE;
+    private static final int ROUNDS = 20;
+
+    @Test
+    void vectorKernelMatchesScalarKernel() {
+        CellKernel vector = CellKernel.vector();
+        assumeTrue(vector != null, "Vector API not available");
+
+        int lanes = vector.lanes();
+        Random random = new Random(275);
+        // Widths that fill no vector, whole vectors and whole vectors plus a tail
+        int[] widths = { 1, lanes - 1, lanes + 1, Math.min(64, 2 * lanes + 3), 37, 63, 64 };
+        for (int width : widths) {
+            for (int round = 0; round < ROUNDS; round++) {
+                for (boolean healthyOnly : new boolean[] { true, false }) {
+                    compare(vector, random, width, healthyOnly, "width " + width + " round " + round
+                            + (healthyOnly ? " healthy only" : " all plants"));
+                }
+            }
+        }
+    }
+
+    private static void compare(CellKernel vector, Random random, int width, boolean healthyOnly, String label) {
+        CellKernel.Tables tables = CellKernel.tables();
+        int cells = width * HEIGHT;
+        byte[] species = new byte[cells];
+        short[] moisture = new short[cells];
+        short[] health = new short[cells];
+        for (int i = 0; i < cells; i++) {
+            species[i] = randomSpecies(random);
+            moisture[i] = randomLevel(random);
+            health[i] = randomLevel(random);
+        }
+
+        for (int op = CellKernel.DRY_OUT; op <= CellKernel.COLD; op++) {
+            // The kernels only run on the cells they select, so select with both first
+            long[] scalarRows = new long[HEIGHT];
+            long[] scalarOther = new long[HEIGHT];
+            long[] vectorRows = new long[HEIGHT];
+            long[] vectorOther = new long[HEIGHT];
+            CellKernel.SCALAR.select(tables, op, species, health, width, HEIGHT, healthyOnly, scalarRows, scalarOther);
+            vector.select(tables, op, species, health, width, HEIGHT, healthyOnly, vectorRows, vectorOther);
+            assertArrayEquals(scalarRows, vectorRows, label + ": kernel cells of op " + op);
+            assertArrayEquals(scalarOther, vectorOther, label + ": other cells of op " + op);
+
+            short[] scalarMoisture = moisture.clone();
+            short[] scalarHealth = health.clone();
+            short[] vectorMoisture = moisture.clone();
+            short[] vectorHealth = health.clone();
+            long[] scalarChanged = new long[HEIGHT];
+            long[] vectorChanged = new long[HEIGHT];
+            switch (op) {
+                case CellKernel.DRY_OUT -> assertEquals(
+                        CellKernel.SCALAR.dryOut(tables, species, scalarMoisture, scalarHealth, width, HEIGHT,
+                                scalarRows, scalarChanged),
+                        vector.dryOut(tables, species, vectorMoisture, vectorHealth, width, HEIGHT,
+                                scalarRows, vectorChanged),
+                        label + ": dry out low-moisture delta");
+                case CellKernel.WATER -> {
+                    // Watering doesn't look at species, so any cells of the row will do
+                    long[] rows = randomRows(random, width);
+                    assertEquals(
+                            CellKernel.SCALAR.water(scalarMoisture, scalarHealth, width, HEIGHT, rows, scalarChanged),
+                            vector.water(vectorMoisture, vectorHealth, width, HEIGHT, rows, vectorChanged),
+                            label + ": water low-moisture delta");
+                }
+                default -> {
+                    short[] damage = op == CellKernel.HEAT ? tables.heat : tables.cold;
+                    CellKernel.SCALAR.damage(damage, species, scalarHealth, width, HEIGHT, scalarRows, scalarChanged);
+                    vector.damage(damage, species, vectorHealth, width, HEIGHT, scalarRows, vectorChanged);
+                }
+            }
+            assertArrayEquals(scalarMoisture, vectorMoisture, label + ": moisture after op " + op);
+            assertArrayEquals(scalarHealth, vectorHealth, label + ": health after op " + op);
+            assertArrayEquals(scalarChanged, vectorChanged, label + ": changed cells of op " + op);
+        }
+    }
+
+    // Registered species, unregistered ones below and above MAX_SPECIES, and empty soil
+    private static byte randomSpecies(Random random) {
+        return switch (random.nextInt(10)) {
+            case 0 -> (byte) SpeciesTable.EMPTY;
+            case 1 -> (byte) (CellKernel.MAX_SPECIES + random.nextInt(256 - CellKernel.MAX_SPECIES));
+            case 2 -> (byte) random.nextInt(CellKernel.MAX_SPECIES);
+            default -> (byte) (1 + random.nextInt(SpeciesTable.size() - 1));
+        };
+    }
+
+    // Mostly 0-100, around the thresholds, with some negative and out-of-range values
+    private static short randomLevel(Random random) {
+        return switch (random.nextInt(8)) {
+            case 0 -> (short) random.nextInt(3);
+            case 1 -> (short) (9 + random.nextInt(23));
+            case 2 -> (short) random.nextInt(Short.MIN_VALUE, Short.MAX_VALUE + 1);
+            case 3 -> (short) (95 + random.nextInt(10));
+            default -> (short) random.nextInt(101);
+        };
+    }
+
+    private static long[] randomRows(Random random, int width) {
+        long[] rows = new long[HEIGHT];
+        long mask = width == 64 ? -1L : (1L << width) - 1;
+        for (int r = 0; r < HEIGHT; r++) {
+            rows[r] = random.nextLong() & mask;
+        }
+        return rows;
+    }
+}
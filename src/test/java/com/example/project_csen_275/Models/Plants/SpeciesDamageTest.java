@@ -0,0 +1,85 @@
+package com.example.project_csen_275.Models.Plants;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The per-species damage tables give what the plants computed from their
+ * resistance multipliers before the tables existed, and drying out, heat and
+ * cold take exactly that damage, stopping at 0 health.
+ */
+class SpeciesDamageTest {
+    // Moisture before drying out, on both sides of each drought damage factor's boundary
+    private static final int[] MOISTURE_LEVELS = { 0, 1, 10, 11, 20, 21, 29, 30 };
+    // Hot enough that every species takes heat damage, Sunflower included
+    private static final int HEAT_WAVE = 90;
+    private static final int FROST = 40;
+
+    @Test
+    void tablesMatchResistanceMultipliers() {
+        for (int id = 1; id < SpeciesTable.size(); id++) {
+            Species species = SpeciesTable.get(id);
+            for (int factor = 1; factor <= Species.MAX_DROUGHT_FACTOR; factor++) {
+                assertEquals((int) (factor * species.getDroughtResistanceMultiplier()), species.droughtDamage(factor),
+                        species.getName() + " drought damage at factor " + factor);
+            }
+            assertEquals((int) (Plant.HEAT_DAMAGE * species.getHeatResistanceMultiplier()), species.heatDamage(),
+                    species.getName() + " heat damage");
+            assertEquals((int) (Plant.COLD_DAMAGE * species.getColdResistanceMultiplier()), species.coldDamage(),
+                    species.getName() + " cold damage");
+        }
+    }
+
+    @Test
+    void dryOutTakesDroughtDamage() {
+        for (int id = 1; id < SpeciesTable.size(); id++) {
+            Species species = SpeciesTable.get(id);
+            double multiplier = species.getDroughtResistanceMultiplier();
+            for (int moisture : MOISTURE_LEVELS) {
+                int dried = Math.max(0, moisture - 1);
+                int damage = dried < 30 ? (int) (((30 - dried) / 10 + 1) * multiplier) : 0;
+                for (int health : healthLevels(damage)) {
+                    Plant plant = plant(species, moisture, health);
+                    plant.dryOut();
+                    String label = species.getName() + " at moisture " + moisture + ", health " + health;
+                    assertEquals(dried, plant.getMoistureLevel(), label);
+                    assertEquals(Math.max(0, health - damage), plant.getHealth(), label);
+                }
+            }
+        }
+    }
+
+    @Test
+    void heatAndColdTakeScaledDamage() {
+        for (int id = 1; id < SpeciesTable.size(); id++) {
+            Species species = SpeciesTable.get(id);
+            int heat = (int) (8 * species.getHeatResistanceMultiplier());
+            for (int health : healthLevels(heat)) {
+                Plant plant = plant(species, 50, health);
+                assertEquals(heat, plant.applyHeatDamage(HEAT_WAVE), species.getName() + " heat damage reported");
+                assertEquals(Math.max(0, health - heat), plant.getHealth(),
+                        species.getName() + " after heat at health " + health);
+            }
+            int cold = (int) (2 * species.getColdResistanceMultiplier());
+            for (int health : healthLevels(cold)) {
+                Plant plant = plant(species, 50, health);
+                plant.applyColdDamage(FROST);
+                assertEquals(Math.max(0, health - cold), plant.getHealth(),
+                        species.getName() + " after frost at health " + health);
+            }
+        }
+    }
+
+    // Full health, none, and just below the damage so it stops at 0
+    private static int[] healthLevels(int damage) {
+        return new int[] { 100, 0, Math.max(0, damage - 1) };
+    }
+
+    private static Plant plant(Species species, int moisture, int health) {
+        Plant plant = species.prototype().detachedCopy();
+        plant.storage().setMoisture(0, moisture);
+        plant.storage().setHealth(0, health);
+        return plant;
+    }
+}
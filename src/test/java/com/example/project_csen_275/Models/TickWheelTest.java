@@ -0,0 +1,92 @@
+package com.example.project_csen_275.Models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The timer wheel hands out exactly the keys a priority queue ordered by due
+ * tick would, in ascending key order, across level cascades and the overflow
+ * list.
+ */
+class TickWheelTest {
+    // Level 0 covers 64 ticks, level 3 covers 2^24; past that entries overflow
+    private static final long TOP_RANGE = 1L << 24;
+
+    @Test
+    void matchesPriorityQueueFromTickZero() {
+        runAgainstReference(0, 20_000, 1);
+    }
+
+    @Test
+    void matchesPriorityQueueAcrossLevelBoundaries() {
+        // Start just before the edges of levels 1, 2 and 3
+        for (long first : new long[] { 60, 4_090, 262_100 }) {
+            runAgainstReference(first, 10_000, first);
+        }
+    }
+
+    @Test
+    void matchesPriorityQueueThroughOverflow() {
+        // Due ticks past the top level's range wait in the overflow list until it is reached
+        runAgainstReference(TOP_RANGE - 3_000, 8_000, 7);
+    }
+
+    @Test
+    void advancingOutOfOrderFails() {
+        TickWheel wheel = new TickWheel(5);
+        wheel.advance(5);
+        assertThrows(IllegalStateException.class, () -> wheel.advance(7));
+        assertThrows(IllegalStateException.class, () -> wheel.advance(5));
+    }
+
+    private static void runAgainstReference(long firstTick, int ticks, long seed) {
+        Random random = new Random(seed);
+        TickWheel wheel = new TickWheel(firstTick);
+        // Entries as { due tick, key }, by due tick then key
+        PriorityQueue<long[]> reference = new PriorityQueue<>(
+                Comparator.<long[]>comparingLong(e -> e[0]).thenComparingLong(e -> e[1]));
+
+        for (long tick = firstTick; tick < firstTick + ticks; tick++) {
+            int scheduled = random.nextInt(6);
+            for (int s = 0; s < scheduled; s++) {
+                long due = tick + delay(random);
+                // Keys share high bits often, like cell indices, and repeat now and then
+                long key = random.nextInt(4) == 0 ? random.nextInt(64) : random.nextLong() >>> 1;
+                wheel.schedule(due, key);
+                // Work scheduled for a tick already advanced is due on the next one
+                reference.add(new long[] { Math.max(due, tick), key });
+            }
+            assertEquals(reference.size(), wheel.size(), "pending before tick " + tick);
+
+            int dueCount = wheel.advance(tick);
+            int expected = 0;
+            while (!reference.isEmpty() && reference.peek()[0] == tick) {
+                long key = reference.poll()[1];
+                final long at = tick;
+                final int k = expected;
+                assertEquals(key, wheel.dueKey(expected), () -> "key " + k + " due on tick " + at);
+                expected++;
+            }
+            assertEquals(expected, dueCount, "keys due on tick " + tick);
+            assertEquals(reference.size(), wheel.size(), "pending after tick " + tick);
+        }
+    }
+
+    // A delay from each level's range, occasionally in the past or past the top level
+    private static long delay(Random random) {
+        return switch (random.nextInt(10)) {
+            case 0 -> -random.nextInt(100);
+            case 1, 2, 3 -> random.nextInt(64);
+            case 4, 5 -> random.nextInt(4_096);
+            case 6, 7 -> random.nextInt(262_144);
+            case 8 -> random.nextInt(8_000);
+            default -> random.nextLong(TOP_RANGE * 3);
+        };
+    }
+}